@@ -0,0 +1,90 @@
+package com.elice.sdz.order.mapper;
+
+import com.elice.sdz.order.dto.OrderDto;
+import com.elice.sdz.order.dto.OrderSummary;
+import com.elice.sdz.order.entity.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 주문 목록 매핑 비용 비교 (gradle jmh, 할당량은 gc.alloc.rate.norm 참고)
+// 반복 방식의 차이가 섞이지 않도록 세 경우 모두 미리 크기를 정한 for 루프로 목록을 만든다
+// (생성된 toDtoList 도 같은 형태)
+// - handWritten: 기존 방식 (엔티티 -> setter 매핑)
+// - generatedFromEntity: 생성된 매퍼로 엔티티 매핑
+// - generatedFromProjection: 레코드 프로젝션 -> 생성된 매퍼 (목록 API 경로)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderMappingBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private final OrderMapper mapper = new OrderMapperImpl();
+    private List<Order> orders;
+    private List<OrderSummary> summaries;
+
+    @Setup
+    public void setUp() {
+        orders = new ArrayList<>(size);
+        summaries = new ArrayList<>(size);
+        Instant now = Instant.now();
+        for (long i = 0; i < size; i++) {
+            Order order = new Order();
+            order.setOrderId(i);
+            order.setOrderCount((int) (i % 10) + 1);
+            order.setOrderAmount(1000.0 * i);
+            order.setOrderStatus(Order.Status.PENDING);
+            order.setRegDate(now);
+            orders.add(order);
+            summaries.add(new OrderSummary(i, order.getOrderCount(), order.getOrderAmount(),
+                    Order.Status.PENDING, now, false));
+        }
+    }
+
+    @Benchmark
+    public List<OrderDto> handWritten() {
+        List<OrderDto> result = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            result.add(toDto(order));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<OrderDto> generatedFromEntity() {
+        List<OrderDto> result = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            result.add(mapper.toDto(order));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<OrderDto> generatedFromProjection() {
+        return mapper.toDtoList(summaries);
+    }
+
+    // 기존 OrderService.toDto
+    private static OrderDto toDto(Order order) {
+        OrderDto dto = new OrderDto();
+        dto.setOrderId(order.getOrderId());
+        dto.setOrderCount(order.getOrderCount());
+        dto.setOrderAmount(order.getOrderAmount());
+        dto.setOrderStatus(order.getOrderStatus());
+        dto.setRegDate(order.getRegDate());
+        dto.setRefundStatus(order.isRefundStatus());
+        return dto;
+    }
+}
@@ -0,0 +1,347 @@
+package com.elice.sdz.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// 부하 테스트용 데이터셋을 JDBC batch 로 적재 (JPA 를 거치지 않음)
+// - 각 컬럼 값은 (seed, 테이블, id) 로부터 계산하므로 테이블 간 관계가 일관되고, 같은 seed 면 같은 데이터가 만들어진다
+// - 주문/리뷰/문의는 소수 회원과 인기 상품에 몰리도록 치우친 분포를 사용
+// - 주문일은 id 순으로 증가해 오래된 주문일수록 배송/환불 완료 상태가 된다
+// - 스키마는 앱(ddl-auto)이 만든 것을 그대로 쓰며, 주문 테이블에 데이터가 있으면 적재하지 않는다
+@Slf4j
+public class DatasetGenerator {
+
+    private static final Duration HISTORY = Duration.ofDays(730);
+    private static final String[] INQUIRY_TYPES = {"DELIVERY", "PRODUCT", "PAYMENT", "REFUND", "ETC"};
+    private static final String[] PAYMENT_METHODS = {"CARD", "BANK_TRANSFER", "KAKAO_PAY", "NAVER_PAY"};
+    private static final List<String> IDENTITY_COLUMNS = List.of(
+            "category.category_id", "product.product_id", "delivery_address.delivery_address_id",
+            "product_order.order_id", "payment.payment_id", "delivery.delivery_id", "review.review_id",
+            "image.image_id", "inquiry.inquiry_id");
+    private static final String TEXT = "배송이 빠르고 포장이 꼼꼼했어요. 사이즈는 정사이즈이고 색상은 사진과 거의 같습니다. "
+            .repeat(40);
+
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+    private final DatasetScale scale;
+    private final long seed;
+    private final int batchSize;
+    private final Instant now = Instant.now();
+
+    public DatasetGenerator(String jdbcUrl, String username, String password, DatasetScale scale,
+                            long seed, int batchSize) {
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+        this.scale = scale;
+        this.seed = seed;
+        this.batchSize = batchSize;
+    }
+
+    public DatasetSummary generateIfEmpty() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+            DatasetSummary existing = DatasetSummary.read(connection);
+            if (!existing.isEmpty()) {
+                log.info("Dataset already present ({} orders), reusing it", existing.orders());
+                return existing;
+            }
+            boolean h2 = connection.getMetaData().getDatabaseProductName().equalsIgnoreCase("H2");
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            long start = System.nanoTime();
+            try {
+                generate(connection);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+            // 직접 id 를 넣었으므로 H2 는 IDENTITY 시작값을 옮겨 이후 앱의 INSERT 와 겹치지 않게 한다 (MySQL 은 자동 조정)
+            if (h2) {
+                restartIdentities(connection);
+            }
+            analyze(connection, h2);
+            log.info("Dataset loaded in {} s", String.format("%.1f", (System.nanoTime() - start) / 1e9));
+            return DatasetSummary.read(connection);
+        }
+    }
+
+    private void generate(Connection connection) throws SQLException {
+        load(connection, "user", "INSERT INTO user (user_id, user_password, user_auth, user_name, nickname, contact, " +
+                "reg_date, email, login_lock, login_attempts, social) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0)",
+                scale.users(), (ps, id) -> {
+                    ps.setString(1, userId(id));
+                    ps.setString(2, "password" + id % 1000);
+                    ps.setString(3, id <= 10 ? "ROLE_ADMIN" : "ROLE_USER");
+                    ps.setString(4, "name" + id);
+                    ps.setString(5, "nick" + id);
+                    ps.setString(6, "010-" + (1000 + id % 9000) + "-" + (1000 + mix(1, id) % 9000));
+                    ps.setTimestamp(7, dateOf(id, scale.users(), 2));
+                    ps.setString(8, userId(id) + "@sdz.com");
+                    return true;
+                });
+
+        load(connection, "category", "INSERT INTO category (category_id, category_name) VALUES (?, ?)",
+                scale.categories(), (ps, id) -> {
+                    ps.setLong(1, id);
+                    ps.setString(2, "category" + id);
+                    return true;
+                });
+
+        load(connection, "delivery_address", "INSERT INTO delivery_address (delivery_address_id, user_id, " +
+                "delivery_address1, delivery_address2, delivery_address3, receiver_name, receiver_contact, " +
+                "delivery_request, default_check) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 1)",
+                scale.users(), (ps, id) -> {
+                    ps.setLong(1, id);
+                    ps.setString(2, userId(id));
+                    ps.setString(3, String.format("%05d", mix(2, id) % 100_000));
+                    ps.setString(4, "Seoul street " + mix(3, id) % 500);
+                    ps.setString(5, "apt " + mix(4, id) % 2000);
+                    ps.setString(6, "name" + id);
+                    ps.setString(7, "010-0000-" + (1000 + id % 9000));
+                    ps.setString(8, "door");
+                    return true;
+                });
+
+        load(connection, "product", "INSERT INTO product (product_id, category_id, user_id, product_name, " +
+                "product_count, product_amount, product_content, reg_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                scale.products(), (ps, id) -> {
+                    ps.setLong(1, id);
+                    ps.setLong(2, pick(5, id, scale.categories()));
+                    ps.setString(3, userId(pick(6, id, scale.sellers())));
+                    ps.setString(4, "product" + id);
+                    ps.setInt(5, (int) (mix(7, id) % 500));
+                    ps.setDouble(6, amount(8, id));
+                    ps.setString(7, text(9, id, 200, 1500));
+                    ps.setTimestamp(8, dateOf(id, scale.products(), 10));
+                    return true;
+                });
+
+        load(connection, "product_order", "INSERT INTO product_order (order_id, user_id, order_count, order_amount, " +
+                "reg_date, refund_status, order_status) VALUES (?, ?, ?, ?, ?, 0, ?)",
+                scale.orders(), (ps, id) -> {
+                    ps.setLong(1, id);
+                    ps.setString(2, userId(orderUser(id)));
+                    ps.setInt(3, 1 + (int) (mix(11, id) % 5));
+                    ps.setDouble(4, amount(12, id));
+                    ps.setTimestamp(5, dateOf(id, scale.orders(), 13));
+                    ps.setString(6, orderStatus(id));
+                    return true;
+                });
+
+        load(connection, "payment", "INSERT INTO payment (payment_id, order_id, payment_amount, payment_method, " +
+                "reg_date, payment_status) VALUES (?, ?, ?, ?, ?, ?)",
+                scale.orders(), (ps, id) -> {
+                    ps.setLong(1, id);
+                    ps.setLong(2, id);
+                    ps.setDouble(3, amount(12, id));
+                    ps.setString(4, PAYMENT_METHODS[(int) (mix(14, id) % PAYMENT_METHODS.length)]);
+                    ps.setTimestamp(5, dateOf(id, scale.orders(), 13));
+                    ps.setString(6, orderStatus(id).equals("PENDING") ? "PENDING" : "SUCCESS");
+                    return true;
+                });
+
+        load(connection, "delivery", "INSERT INTO delivery (delivery_id, delivery_address_id, order_id, reg_date, " +
+                "delivery_status) VALUES (?, ?, ?, ?, ?)",
+                scale.orders(), (ps, id) -> {
+                    String status = orderStatus(id);
+                    if (status.equals("PENDING")) {
+                        return false;
+                    }
+                    ps.setLong(1, id);
+                    ps.setLong(2, orderUser(id));
+                    ps.setLong(3, id);
+                    ps.setTimestamp(4, dateOf(id, scale.orders(), 13));
+                    ps.setString(5, status.equals("PAYMENTPROCESSED") ? "PENDING" : "PROCESSED");
+                    return true;
+                });
+
+        load(connection, "review", "INSERT INTO review (review_id, user_id, product_id, rating, review_content, " +
+                "reg_date) VALUES (?, ?, ?, ?, ?, ?)",
+                scale.reviews(), (ps, id) -> {
+                    ps.setLong(1, id);
+                    ps.setString(2, userId(skewed(15, id, scale.users())));
+                    ps.setLong(3, skewed(16, id, scale.products()));
+                    ps.setInt(4, rating(id));
+                    ps.setString(5, text(17, id, 20, 400));
+                    ps.setTimestamp(6, dateOf(id, scale.reviews(), 18));
+                    return true;
+                });
+
+        long productImages = scale.products() * 2;
+        load(connection, "image", "INSERT INTO image (image_id, product_id, review_id, image_origin, image_uuid, " +
+                "upload_path, thumbnail_path, reg_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                scale.images(), (ps, id) -> {
+                    String uuid = new UUID(mix(19, id), mix(20, id)).toString();
+                    ps.setLong(1, id);
+                    if (id <= productImages) {
+                        ps.setLong(2, (id + 1) / 2);
+                        ps.setNull(3, Types.BIGINT);
+                    } else {
+                        ps.setNull(2, Types.BIGINT);
+                        ps.setLong(3, (id - productImages) * 5);
+                    }
+                    ps.setString(4, "image" + id + ".jpg");
+                    ps.setString(5, uuid);
+                    ps.setString(6, "/upload/" + uuid + ".jpg");
+                    ps.setString(7, "/upload/thumbnail/" + uuid + ".jpg");
+                    ps.setTimestamp(8, Timestamp.from(now));
+                    return true;
+                });
+
+        // 최근 20% 는 답변 대기
+        long answeredUpTo = scale.inquiries() * 8 / 10;
+        load(connection, "inquiry", "INSERT INTO inquiry (inquiry_id, product_id, user_id, inquiry_type, " +
+                "inquiry_title, inquiry_content, reg_date, answer_content, answer_reg_date, inquiry_secret, " +
+                "inquiry_status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                scale.inquiries(), (ps, id) -> {
+                    Timestamp regDate = dateOf(id, scale.inquiries(), 21);
+                    boolean answered = id <= answeredUpTo;
+                    ps.setLong(1, id);
+                    if (mix(22, id) % 10 < 3) {
+                        ps.setNull(2, Types.BIGINT);
+                    } else {
+                        ps.setLong(2, skewed(23, id, scale.products()));
+                    }
+                    ps.setString(3, userId(skewed(24, id, scale.users())));
+                    ps.setString(4, INQUIRY_TYPES[(int) (mix(25, id) % INQUIRY_TYPES.length)]);
+                    ps.setString(5, "inquiry" + id);
+                    ps.setString(6, text(26, id, 20, 400));
+                    ps.setTimestamp(7, regDate);
+                    ps.setString(8, answered ? text(27, id, 20, 300) : null);
+                    ps.setTimestamp(9, answered ? Timestamp.from(regDate.toInstant().plus(Duration.ofHours(6))) : null);
+                    ps.setBoolean(10, mix(28, id) % 10 == 0);
+                    ps.setString(11, answered ? "ANSWERED" : "PENDING");
+                    return true;
+                });
+    }
+
+    private void load(Connection connection, String table, String sql, long rows, RowBinder binder)
+            throws SQLException {
+        long start = System.nanoTime();
+        long inserted = 0;
+        int pending = 0;
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (long id = 1; id <= rows; id++) {
+                if (!binder.bind(ps, id)) {
+                    continue;
+                }
+                ps.addBatch();
+                inserted++;
+                if (++pending == batchSize) {
+                    ps.executeBatch();
+                    connection.commit();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                ps.executeBatch();
+                connection.commit();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("{}: {} rows in {} s ({} rows/s)", table, inserted, String.format("%.1f", seconds),
+                Math.round(inserted / Math.max(seconds, 1e-3)));
+    }
+
+    private void restartIdentities(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String column : IDENTITY_COLUMNS) {
+                String[] parts = column.split("\\.");
+                long next;
+                try (var rs = statement.executeQuery("SELECT COALESCE(MAX(" + parts[1] + "), 0) + 1 FROM " + parts[0])) {
+                    rs.next();
+                    next = rs.getLong(1);
+                }
+                statement.execute("ALTER TABLE " + parts[0] + " ALTER COLUMN " + parts[1] + " RESTART WITH " + next);
+            }
+        }
+    }
+
+    // 적재 직후 통계를 갱신해 실행 계획이 실제 건수를 기준으로 세워지게 한다
+    private void analyze(Connection connection, boolean h2) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (h2) {
+                statement.execute("ANALYZE");
+            } else {
+                statement.execute("ANALYZE TABLE user, category, delivery_address, product, product_order, " +
+                        "payment, delivery, review, image, inquiry");
+            }
+        }
+    }
+
+    private long orderUser(long orderId) {
+        return skewed(30, orderId, scale.users());
+    }
+
+    // 최근 1% 는 결제 대기/결제 완료, 나머지는 배송 완료 (4% 환불)
+    private String orderStatus(long orderId) {
+        if (orderId > scale.orders() * 99 / 100) {
+            return mix(31, orderId) % 10 < 4 ? "PENDING" : "PAYMENTPROCESSED";
+        }
+        return mix(32, orderId) % 100 < 4 ? "REFUNDPROCESSED" : "DELIVERYPROCESSED";
+    }
+
+    private int rating(long reviewId) {
+        long roll = mix(33, reviewId) % 10;
+        if (roll < 9) {
+            return roll < 5 ? 5 : roll < 8 ? 4 : 3;
+        }
+        return reviewId % 2 == 0 ? 2 : 1;
+    }
+
+    private double amount(int salt, long id) {
+        return 1_000 + (mix(salt, id) % 200) * 500;
+    }
+
+    private String text(int salt, long id, int minLength, int maxLength) {
+        int length = minLength + (int) (mix(salt, id) % (maxLength - minLength));
+        int offset = (int) (mix(salt + 100, id) % (TEXT.length() - length));
+        return TEXT.substring(offset, offset + length);
+    }
+
+    // id 순으로 과거에서 현재로 증가하는 날짜 (약간의 흔들림 포함)
+    private Timestamp dateOf(long id, long total, int salt) {
+        long span = HISTORY.toSeconds();
+        long offset = span * id / Math.max(total, 1) - mix(salt, id) % 3600;
+        return Timestamp.from(now.minusSeconds(span).plusSeconds(Math.max(0, offset)));
+    }
+
+    private static String userId(long n) {
+        return "user" + n;
+    }
+
+    private long pick(int salt, long id, long bound) {
+        return 1 + mix(salt, id) % bound;
+    }
+
+    // 1 에 가까운 값이 자주 나오는 분포 (u^3), 상위 10% 가 전체의 약 46% 를 차지
+    private long skewed(int salt, long id, long bound) {
+        double u = (mix(salt, id) >>> 11) * 0x1.0p-52;
+        return 1 + Math.min(bound - 1, (long) (bound * u * u * u));
+    }
+
+    // splitmix64
+    private long mix(int salt, long id) {
+        long z = seed * 0x9E3779B97F4A7C15L + salt * 0xBF58476D1CE4E5B9L + id;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return (z ^ (z >>> 31)) >>> 1;
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        // false 를 반환하면 해당 id 는 건너뛴다
+        boolean bind(PreparedStatement ps, long id) throws SQLException;
+    }
+}
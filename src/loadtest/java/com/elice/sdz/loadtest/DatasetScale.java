@@ -0,0 +1,27 @@
+package com.elice.sdz.loadtest;
+
+// 테이블별 적재 건수. 비율은 실제 운영 데이터의 대략적인 형태(회원당 주문 10건, 상품당 리뷰 1.5건 등)를 따른다
+public record DatasetScale(long users, long sellers, long categories, long products, long orders,
+                           long reviews, long inquiries) {
+
+    public static DatasetScale of(double scale) {
+        long users = atLeast(10_000 * scale, 100);
+        return new DatasetScale(
+                users,
+                Math.max(1, users / 20),
+                50,
+                atLeast(20_000 * scale, 100),
+                atLeast(100_000 * scale, 1_000),
+                atLeast(30_000 * scale, 100),
+                atLeast(5_000 * scale, 100));
+    }
+
+    // 상품 이미지 2장 + 리뷰 5건당 1장
+    public long images() {
+        return products * 2 + reviews / 5;
+    }
+
+    private static long atLeast(double value, long min) {
+        return Math.max(min, Math.round(value));
+    }
+}
@@ -0,0 +1,32 @@
+package com.elice.sdz.loadtest;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// 부하 시나리오가 요청에 쓸 식별자 범위 (적재 직후 또는 재사용하는 DB 에서 조회)
+public record DatasetSummary(long minProductId, long maxProductId, long minOrderId, long maxOrderId,
+                             long orders, long pendingInquiries) {
+
+    public static DatasetSummary read(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            long[] products = range(statement, "SELECT MIN(product_id), MAX(product_id), COUNT(*) FROM product");
+            long[] orders = range(statement, "SELECT MIN(order_id), MAX(order_id), COUNT(*) FROM product_order");
+            long[] inquiries = range(statement,
+                    "SELECT 0, 0, COUNT(*) FROM inquiry WHERE inquiry_status = 'PENDING'");
+            return new DatasetSummary(products[0], products[1], orders[0], orders[1], orders[2], inquiries[2]);
+        }
+    }
+
+    public boolean isEmpty() {
+        return orders == 0 || maxProductId == 0;
+    }
+
+    private static long[] range(Statement statement, String sql) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)};
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.elice.sdz.loadtest;
+
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+// 부하 시나리오의 요청 한 종류. weight 비율로 섞어서 보내고, 결과는 name 별로 집계
+public record Endpoint(String name, String method, int weight, Function<SplittableRandom, String> path) {
+
+    public static Endpoint get(String name, int weight, Function<SplittableRandom, String> path) {
+        return new Endpoint(name, "GET", weight, path);
+    }
+
+    public static Endpoint patch(String name, int weight, Function<SplittableRandom, String> path) {
+        return new Endpoint(name, "PATCH", weight, path);
+    }
+}
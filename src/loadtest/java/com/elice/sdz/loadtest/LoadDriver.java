@@ -0,0 +1,178 @@
+package com.elice.sdz.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// HTTP 부하 생성기
+// - rate 가 0 이면 닫힌 모델: 스레드마다 응답을 받는 즉시 다음 요청 (최대 처리량 측정)
+// - rate 가 있으면 열린 모델: 스레드마다 정해진 간격으로 요청을 예약하고, 지연은 예약 시각부터 잰다
+//   (서버가 밀려 요청이 늦게 나가도 그 대기 시간이 지연 분포에 반영되도록, coordinated omission 보정)
+// 스레드별로 히스토그램을 따로 기록하고 끝난 뒤 합치므로 측정 중 스레드 간 경합이 없다
+@Slf4j
+public class LoadDriver {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final List<Endpoint> endpoints;
+    private final int[] cumulativeWeights;
+
+    public LoadDriver(URI baseUri, List<Endpoint> endpoints) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUri = baseUri;
+        this.endpoints = List.copyOf(endpoints);
+        this.cumulativeWeights = new int[endpoints.size()];
+        int total = 0;
+        for (int i = 0; i < endpoints.size(); i++) {
+            total += endpoints.get(i).weight();
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public LoadReport run(int concurrency, Duration warmup, Duration duration, double rate, long seed)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        // 스레드당 요청 간격 (열린 모델)
+        long interval = rate > 0 ? (long) (1e9 * concurrency / rate) : 0;
+        log.info("Driving {} with {} threads{} for {} (+{} warmup)", baseUri, concurrency,
+                rate > 0 ? " at " + rate + " req/s" : "", duration, warmup);
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<Recorder[]>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            SplittableRandom random = new SplittableRandom(seed + i);
+            long firstSend = start + (interval == 0 ? 0 : interval * i / concurrency);
+            futures.add(workers.submit(() -> drive(random, firstSend, interval, measureFrom, end)));
+        }
+        workers.shutdown();
+
+        Recorder[] merged = newRecorders();
+        for (Future<Recorder[]> future : futures) {
+            try {
+                Recorder[] recorders = future.get();
+                for (int i = 0; i < merged.length; i++) {
+                    merged[i].add(recorders[i]);
+                }
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Load worker failed", e.getCause());
+            }
+        }
+        List<LoadReport.Row> rows = new ArrayList<>();
+        Recorder total = new Recorder();
+        for (int i = 0; i < merged.length; i++) {
+            rows.add(merged[i].toRow(endpoints.get(i).name(), duration));
+            total.add(merged[i]);
+        }
+        return new LoadReport(rows, total.toRow("TOTAL", duration), concurrency, rate, duration);
+    }
+
+    private Recorder[] drive(SplittableRandom random, long firstSend, long interval, long measureFrom, long end) {
+        Recorder[] recorders = newRecorders();
+        long scheduled = firstSend;
+        while (true) {
+            long sendAt;
+            if (interval > 0) {
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                sendAt = scheduled;
+                scheduled += interval;
+            } else {
+                sendAt = System.nanoTime();
+            }
+            if (sendAt >= end || Thread.currentThread().isInterrupted()) {
+                return recorders;
+            }
+            int index = choose(random);
+            Endpoint endpoint = endpoints.get(index);
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(endpoint.path().apply(random)))
+                    .timeout(Duration.ofSeconds(30))
+                    .method(endpoint.method(), HttpRequest.BodyPublishers.noBody())
+                    .build();
+            int status;
+            try {
+                status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return recorders;
+            }
+            long latencyNanos = System.nanoTime() - sendAt;
+            if (sendAt >= measureFrom) {
+                recorders[index].record(latencyNanos, status);
+            }
+        }
+    }
+
+    private int choose(SplittableRandom random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        return cumulativeWeights.length - 1;
+    }
+
+    private Recorder[] newRecorders() {
+        Recorder[] recorders = new Recorder[endpoints.size()];
+        for (int i = 0; i < recorders.length; i++) {
+            recorders[i] = new Recorder();
+        }
+        return recorders;
+    }
+
+    // 엔드포인트 하나의 지연 분포(마이크로초)와 응답 상태 집계
+    private static final class Recorder {
+        private final Histogram histogram = new Histogram(MAX_LATENCY_MICROS, 3);
+        private long errors;
+
+        void record(long latencyNanos, int status) {
+            histogram.recordValue(Math.min(MAX_LATENCY_MICROS, Math.max(1, latencyNanos / 1_000)));
+            if (status < 200 || status >= 400) {
+                errors++;
+            }
+        }
+
+        void add(Recorder other) {
+            histogram.add(other.histogram);
+            errors += other.errors;
+        }
+
+        LoadReport.Row toRow(String name, Duration duration) {
+            long requests = histogram.getTotalCount();
+            return new LoadReport.Row(name, requests, errors, requests / (duration.toNanos() / 1e9),
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(95)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1_000.0;
+        }
+    }
+}
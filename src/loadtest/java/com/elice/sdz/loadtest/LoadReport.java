@@ -0,0 +1,54 @@
+package com.elice.sdz.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 엔드포인트별 처리량과 지연 백분위 (지연 단위는 ms)
+public record LoadReport(List<Row> rows, Row total, int concurrency, double rate, Duration duration) {
+
+    public void print(PrintStream out) {
+        out.println();
+        out.printf(Locale.ROOT, "threads=%d, rate=%s, measured=%s%n", concurrency,
+                rate > 0 ? rate + " req/s" : "closed loop", duration);
+        String header = String.format(Locale.ROOT, "%-40s %9s %7s %9s %9s %9s %9s %9s %9s",
+                "endpoint", "requests", "errors", "req/s", "p50", "p95", "p99", "p99.9", "max");
+        out.println(header);
+        out.println("-".repeat(header.length()));
+        rows.forEach(row -> out.println(format(row)));
+        out.println("-".repeat(header.length()));
+        out.println(format(total));
+    }
+
+    public Path writeCsv(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("summary.csv");
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint,requests,errors,throughput_rps,p50_ms,p95_ms,p99_ms,p999_ms,max_ms");
+        List<Row> all = new ArrayList<>(rows);
+        all.add(total);
+        for (Row row : all) {
+            lines.add(String.format(Locale.ROOT, "\"%s\",%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f", row.endpoint(),
+                    row.requests(), row.errors(), row.throughput(), row.p50(), row.p95(), row.p99(), row.p999(),
+                    row.max()));
+        }
+        Files.write(file, lines, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static String format(Row row) {
+        return String.format(Locale.ROOT, "%-40s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f", row.endpoint(),
+                row.requests(), row.errors(), row.throughput(), row.p50(), row.p95(), row.p99(), row.p999(),
+                row.max());
+    }
+
+    public record Row(String endpoint, long requests, long errors, double throughput,
+                      double p50, double p95, double p99, double p999, double max) {
+    }
+}
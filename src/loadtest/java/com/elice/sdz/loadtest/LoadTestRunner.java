@@ -0,0 +1,80 @@
+package com.elice.sdz.loadtest;
+
+import com.elice.sdz.SdzApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// gradle loadTest 진입점: (내장 서버 기동) -> 데이터셋 적재 -> 부하 -> 리포트
+@Slf4j
+public class LoadTestRunner {
+
+    private static final String[] INQUIRY_TYPES = {"DELIVERY", "PRODUCT", "PAYMENT", "REFUND", "ETC"};
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ConfigurableApplicationContext context = null;
+        try {
+            URI baseUri;
+            if (settings.embeddedServer()) {
+                // 스키마는 앱이 만든다 (ddl-auto), 데이터는 그 다음에 JDBC 로 적재
+                context = new SpringApplicationBuilder(SdzApplication.class)
+                        .profiles("loadtest")
+                        .properties("spring.datasource.url=" + settings.jdbcUrl(),
+                                "spring.datasource.username=" + settings.jdbcUsername(),
+                                "spring.datasource.password=" + settings.jdbcPassword())
+                        .run(args);
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                baseUri = URI.create("http://localhost:" + port);
+            } else {
+                baseUri = URI.create(settings.targetUrl());
+            }
+
+            DatasetGenerator generator = new DatasetGenerator(settings.jdbcUrl(), settings.jdbcUsername(),
+                    settings.jdbcPassword(), DatasetScale.of(settings.scale()), settings.seed(), settings.batchSize());
+            DatasetSummary dataset = generator.generateIfEmpty();
+
+            LoadDriver driver = new LoadDriver(baseUri, scenario(dataset));
+            LoadReport report = driver.run(settings.concurrency(), settings.warmup(), settings.duration(),
+                    settings.rate(), settings.seed());
+            report.print(System.out);
+            Path csv = report.writeCsv(Path.of(settings.reportDir()));
+            log.info("Report written to {}", csv);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    // 상품 상세는 인기 상품에 몰리고, 주문 조회는 전체에 고르게, 상태 변경은 최근 주문에만 발생
+    static List<Endpoint> scenario(DatasetSummary dataset) {
+        long products = dataset.maxProductId() - dataset.minProductId() + 1;
+        long orders = dataset.maxOrderId() - dataset.minOrderId() + 1;
+        long recentOrders = Math.max(1, orders / 100);
+        return List.of(
+                Endpoint.get("GET /api/products/{productId}", 45,
+                        random -> "/api/products/" + (dataset.minProductId() + skewed(random, products))),
+                Endpoint.get("GET /api/orders/{orderId}", 35,
+                        random -> "/api/orders/" + (dataset.minOrderId() + random.nextLong(orders))),
+                Endpoint.get("GET /api/admin/inquiries/queue", 10,
+                        random -> "/api/admin/inquiries/queue?size=20&inquiryType="
+                                + INQUIRY_TYPES[random.nextInt(INQUIRY_TYPES.length)]),
+                Endpoint.get("GET /api/admin/inquiries/queue/count", 5,
+                        random -> "/api/admin/inquiries/queue/count"),
+                Endpoint.patch("PATCH /api/orders/{orderId}/status", 5,
+                        random -> "/api/orders/" + (dataset.maxOrderId() - random.nextLong(recentOrders))
+                                + "/status?status=" + (random.nextBoolean() ? "PAYMENTPROCESSED" : "DELIVERYPROCESSED")));
+    }
+
+    private static long skewed(SplittableRandom random, long bound) {
+        double u = random.nextDouble();
+        return Math.min(bound - 1, (long) (bound * u * u * u));
+    }
+}
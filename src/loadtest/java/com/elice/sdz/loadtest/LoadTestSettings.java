@@ -0,0 +1,49 @@
+package com.elice.sdz.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+
+// gradle loadTest -P<이름>=<값> 으로 전달되는 설정 (시스템 프로퍼티 loadtest.<이름>)
+public record LoadTestSettings(
+        double scale,          // 데이터셋 규모 (1 = 회원 1만 / 상품 2만 / 주문 10만)
+        long seed,             // 같은 seed 면 같은 데이터셋과 같은 요청 순서
+        int batchSize,         // JDBC batch 크기 (batch 마다 커밋)
+        int concurrency,       // 동시 요청 스레드 수
+        Duration warmup,       // 측정에서 제외하는 워밍업 시간
+        Duration duration,     // 측정 시간
+        double rate,           // 목표 처리량 (req/s), 0 이면 스레드마다 응답 즉시 다음 요청
+        String jdbcUrl,
+        String jdbcUsername,
+        String jdbcPassword,
+        String targetUrl,      // 비어 있으면 내장 서버를 띄운다
+        String reportDir) {
+
+    private static final String DEFAULT_JDBC_URL =
+            "jdbc:h2:mem:loadtest;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1";
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Double.parseDouble(property("scale", "0.1")),
+                Long.parseLong(property("seed", "42")),
+                Integer.parseInt(property("batchSize", "1000")),
+                Integer.parseInt(property("concurrency", "16")),
+                DurationStyle.detectAndParse(property("warmup", "10s")),
+                DurationStyle.detectAndParse(property("duration", "30s")),
+                Double.parseDouble(property("rate", "0")),
+                property("jdbcUrl", DEFAULT_JDBC_URL),
+                property("jdbcUsername", "sa"),
+                property("jdbcPassword", ""),
+                property("targetUrl", ""),
+                property("reportDir", "build/reports/loadtest"));
+    }
+
+    public boolean embeddedServer() {
+        return targetUrl.isBlank();
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
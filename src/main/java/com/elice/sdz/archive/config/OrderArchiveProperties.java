@@ -0,0 +1,15 @@
+package com.elice.sdz.archive.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sdz.archive.order")
+public class OrderArchiveProperties {
+    private boolean enabled = false;                  // 스케줄 실행 여부 (수동 실행 API 는 항상 가능)
+    private Duration horizon = Duration.ofDays(365);  // 이보다 오래된 종료 주문을 보관 처리
+    private int chunkSize = 500;                      // 한 트랜잭션에서 옮길 주문 수
+    private int maxChunksPerRun = 200;                // 1회 실행당 최대 청크 수 (실행 시간 상한)
+}
@@ -0,0 +1,24 @@
+package com.elice.sdz.archive.controller;
+
+import com.elice.sdz.archive.dto.ArchiveResult;
+import com.elice.sdz.archive.service.OrderArchiveService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/archive")
+public class OrderArchiveController {
+
+    private final OrderArchiveService orderArchiveService;
+
+    public OrderArchiveController(OrderArchiveService orderArchiveService) {
+        this.orderArchiveService = orderArchiveService;
+    }
+
+    @PostMapping("/orders")//종료 주문 보관 처리 (수동 실행)
+    public ResponseEntity<ArchiveResult> archiveOrders() {
+        return ResponseEntity.ok(orderArchiveService.archiveClosedOrders());
+    }
+}
@@ -0,0 +1,17 @@
+package com.elice.sdz.archive.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveResult {
+    private Instant cutoff;      // 이 시각 이전 주문이 대상
+    private int chunks;          // 커밋한 청크 수
+    private long archivedOrders; // 보관 처리된 주문 수
+    private boolean completed;   // 대상이 남지 않았으면 true (false 면 다음 실행에서 이어서 처리)
+}
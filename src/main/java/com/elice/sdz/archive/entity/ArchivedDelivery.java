@@ -0,0 +1,38 @@
+package com.elice.sdz.archive.entity;
+
+import com.elice.sdz.delivery.entity.Delivery;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "delivery_archive",
+        indexes = @Index(name = "idx_delivery_archive_order", columnList = "order_id"))
+public class ArchivedDelivery {
+
+    @Id
+    @Column(name = "delivery_id")
+    private Long deliveryId;
+
+    @Column(name = "delivery_address_id", nullable = false)
+    private Long deliveryAddressId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "reg_date", nullable = false)
+    private Instant regDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "delivery_status", nullable = false)
+    private Delivery.Status deliveryStatus;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,44 @@
+package com.elice.sdz.archive.entity;
+
+import com.elice.sdz.order.entity.Order;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "product_order_archive",
+        indexes = @Index(name = "idx_order_archive_user", columnList = "user_id, reg_date"))
+public class ArchivedOrder {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId; // 원본 주문 ID 그대로 보관
+
+    @Column(name = "user_id", length = 50)
+    private String userId;
+
+    @Column(name = "order_count", nullable = false)
+    private int orderCount;
+
+    @Column(name = "order_amount", nullable = false)
+    private Double orderAmount;
+
+    @Column(name = "reg_date", nullable = false)
+    private Instant regDate;
+
+    @Column(name = "refund_status", nullable = false)
+    private boolean refundStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_status", nullable = false)
+    private Order.Status orderStatus;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt; // 보관 처리 시각
+}
@@ -0,0 +1,41 @@
+package com.elice.sdz.archive.entity;
+
+import com.elice.sdz.payment.entity.Payment;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "payment_archive",
+        indexes = @Index(name = "idx_payment_archive_order", columnList = "order_id"))
+public class ArchivedPayment {
+
+    @Id
+    @Column(name = "payment_id")
+    private Long paymentId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "payment_amount", nullable = false)
+    private Double paymentAmount;
+
+    @Column(name = "payment_method", length = 50, nullable = false)
+    private String paymentMethod;
+
+    @Column(name = "reg_date", nullable = false)
+    private Instant regDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_status", nullable = false)
+    private Payment.Status paymentStatus;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
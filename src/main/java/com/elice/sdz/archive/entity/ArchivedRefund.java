@@ -0,0 +1,44 @@
+package com.elice.sdz.archive.entity;
+
+import com.elice.sdz.refund.entity.Refund;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "refund_archive",
+        indexes = @Index(name = "idx_refund_archive_order", columnList = "order_id"))
+public class ArchivedRefund {
+
+    @Id
+    @Column(name = "refund_id")
+    private Long refundId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "payment_id", nullable = false)
+    private Long paymentId;
+
+    @Column(name = "refund_amount", nullable = false)
+    private Double refundAmount;
+
+    @Column(name = "refund_reason", length = 500, nullable = false)
+    private String refundReason;
+
+    @Column(name = "reg_date", nullable = false)
+    private Instant regDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "refund_status", nullable = false)
+    private Refund.Status refundStatus;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,17 @@
+package com.elice.sdz.archive.repository;
+
+import com.elice.sdz.archive.entity.ArchivedOrder;
+import com.elice.sdz.order.dto.OrderSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    @Query("SELECT new com.elice.sdz.order.dto.OrderSummary(o.orderId, o.orderCount, o.orderAmount, " +
+            "o.orderStatus, o.regDate, o.refundStatus) FROM ArchivedOrder o ORDER BY o.orderId")
+    List<OrderSummary> findAllSummaries();
+}
@@ -0,0 +1,185 @@
+package com.elice.sdz.archive.service;
+
+import com.elice.sdz.archive.config.OrderArchiveProperties;
+import com.elice.sdz.archive.dto.ArchiveResult;
+import com.elice.sdz.global.web.CollectionVersions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 오래된 종료 주문과 결제/배송/환불 행을 보관 테이블로 옮긴다.
+// 청크마다 별도 트랜잭션으로 복사 + 삭제하므로 중간에 중단돼도 다음 실행이 남은 주문부터 이어서 처리한다.
+// 후보 주문과 자식 행을 잠근 뒤 복사하고, 삭제는 보관 테이블에 복사된 행만 대상으로 한다.
+// 그 사이 잠금을 피해 자식 행이 생기면 주문 삭제가 외래 키에 걸려 청크 전체가 롤백되므로 보관되지 않은 행이 지워지지 않는다.
+@Slf4j
+@Service
+public class OrderArchiveService {
+
+    private static final String SELECT_CANDIDATES_SQL =
+            "SELECT o.order_id FROM product_order o " +
+            "WHERE o.order_id > :lastId AND o.reg_date < :cutoff " +
+            "AND o.order_status IN ('DELIVERYPROCESSED', 'REFUNDPROCESSED') " +
+            "AND NOT EXISTS (SELECT 1 FROM refund r WHERE r.order_id = o.order_id " +
+            "                AND r.refund_status IN ('PENDING', 'PROCESSING')) " +
+            "ORDER BY o.order_id LIMIT :limit FOR UPDATE";
+
+    // 후보를 고른 뒤 진행 중이 된 환불이 있는지 잠근 상태에서 다시 확인
+    private static final String LOCK_REFUNDS_SQL =
+            "SELECT order_id, refund_status FROM refund WHERE order_id IN (:ids) FOR UPDATE";
+
+    private static final List<String> LOCK_CHILDREN_SQLS = List.of(
+            "SELECT payment_id FROM payment WHERE order_id IN (:ids) FOR UPDATE",
+            "SELECT delivery_id FROM delivery WHERE order_id IN (:ids) FOR UPDATE");
+
+    private static final Set<String> OPEN_REFUND_STATUSES = Set.of("PENDING", "PROCESSING");
+
+    private static final String ARCHIVE_ORDERS_SQL =
+            "INSERT INTO product_order_archive (order_id, user_id, order_count, order_amount, reg_date, " +
+            "refund_status, order_status, archived_at) " +
+            "SELECT order_id, user_id, order_count, order_amount, reg_date, refund_status, order_status, :now " +
+            "FROM product_order WHERE order_id IN (:ids)";
+
+    private static final String ARCHIVE_PAYMENTS_SQL =
+            "INSERT INTO payment_archive (payment_id, order_id, payment_amount, payment_method, reg_date, " +
+            "payment_status, archived_at) " +
+            "SELECT payment_id, order_id, payment_amount, payment_method, reg_date, payment_status, :now " +
+            "FROM payment WHERE order_id IN (:ids)";
+
+    private static final String ARCHIVE_DELIVERIES_SQL =
+            "INSERT INTO delivery_archive (delivery_id, delivery_address_id, order_id, reg_date, " +
+            "delivery_status, archived_at) " +
+            "SELECT delivery_id, delivery_address_id, order_id, reg_date, delivery_status, :now " +
+            "FROM delivery WHERE order_id IN (:ids)";
+
+    private static final String ARCHIVE_REFUNDS_SQL =
+            "INSERT INTO refund_archive (refund_id, order_id, payment_id, refund_amount, refund_reason, " +
+            "reg_date, refund_status, archived_at) " +
+            "SELECT refund_id, order_id, payment_id, refund_amount, refund_reason, reg_date, refund_status, :now " +
+            "FROM refund WHERE order_id IN (:ids)";
+
+    // 외래 키 순서대로 자식부터, 보관 테이블에 복사된 행만 삭제
+    private static final List<String> DELETE_SQLS = List.of(
+            "DELETE FROM refund WHERE refund_id IN " +
+            "(SELECT refund_id FROM refund_archive WHERE order_id IN (:ids))",
+            "DELETE FROM delivery WHERE delivery_id IN " +
+            "(SELECT delivery_id FROM delivery_archive WHERE order_id IN (:ids))",
+            "DELETE FROM payment WHERE payment_id IN " +
+            "(SELECT payment_id FROM payment_archive WHERE order_id IN (:ids))",
+            "DELETE FROM product_order WHERE order_id IN " +
+            "(SELECT order_id FROM product_order_archive WHERE order_id IN (:ids))");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderArchiveProperties properties;
+    private final CollectionVersions collectionVersions;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OrderArchiveService(NamedParameterJdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               OrderArchiveProperties properties,
+                               CollectionVersions collectionVersions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.collectionVersions = collectionVersions;
+    }
+
+    @Scheduled(cron = "${sdz.archive.order.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        if (properties.isEnabled()) {
+            archiveClosedOrders();
+        }
+    }
+
+    public ArchiveResult archiveClosedOrders() { //종료 주문 보관 처리
+        Instant cutoff = Instant.now().minus(properties.getHorizon());
+        if (!running.compareAndSet(false, true)) {
+            log.info("Order archive already running, skipping");
+            return new ArchiveResult(cutoff, 0, 0, false);
+        }
+        try {
+            long lastId = 0;
+            long archived = 0;
+            int chunks = 0;
+            boolean completed = false;
+            while (chunks < properties.getMaxChunksPerRun()) {
+                long fromId = lastId;
+                Chunk chunk;
+                try {
+                    chunk = transactionTemplate.execute(status -> archiveChunk(fromId, cutoff));
+                } catch (DataIntegrityViolationException e) {
+                    // 복사 후 생긴 자식 행 때문에 롤백됨, 다음 실행에서 다시 시도
+                    log.warn("Order archive chunk after id {} rolled back: {}", fromId, e.getMostSpecificCause().getMessage());
+                    break;
+                }
+                if (chunk == null) {
+                    completed = true;
+                    break;
+                }
+                chunks++;
+                archived += chunk.archived();
+                lastId = chunk.lastId();
+                log.debug("Archived {} orders up to id {}", chunk.archived(), lastId);
+            }
+            if (archived > 0) {
+                collectionVersions.bump("orders");
+                log.info("Archived {} orders older than {} in {} chunks", archived, cutoff, chunks);
+            }
+            return new ArchiveResult(cutoff, chunks, archived, completed);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 후보가 없으면 null
+    private Chunk archiveChunk(long lastId, Instant cutoff) {
+        List<Long> candidates = jdbcTemplate.queryForList(SELECT_CANDIDATES_SQL, new MapSqlParameterSource()
+                .addValue("lastId", lastId)
+                .addValue("cutoff", Timestamp.from(cutoff))
+                .addValue("limit", properties.getChunkSize()), Long.class);
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        long chunkLastId = candidates.get(candidates.size() - 1);
+        MapSqlParameterSource lockParams = new MapSqlParameterSource("ids", candidates);
+        Set<Long> openRefundOrders = new HashSet<>();
+        jdbcTemplate.query(LOCK_REFUNDS_SQL, lockParams, rs -> {
+            if (OPEN_REFUND_STATUSES.contains(rs.getString("refund_status"))) {
+                openRefundOrders.add(rs.getLong("order_id"));
+            }
+        });
+        for (String sql : LOCK_CHILDREN_SQLS) {
+            jdbcTemplate.queryForList(sql, lockParams, Long.class);
+        }
+        List<Long> ids = candidates.stream().filter(id -> !openRefundOrders.contains(id)).toList();
+        if (ids.isEmpty()) {
+            return new Chunk(chunkLastId, 0);
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("now", Timestamp.from(Instant.now()));
+        jdbcTemplate.update(ARCHIVE_ORDERS_SQL, params);
+        jdbcTemplate.update(ARCHIVE_PAYMENTS_SQL, params);
+        jdbcTemplate.update(ARCHIVE_DELIVERIES_SQL, params);
+        jdbcTemplate.update(ARCHIVE_REFUNDS_SQL, params);
+        for (String sql : DELETE_SQLS) {
+            jdbcTemplate.update(sql, params);
+        }
+        return new Chunk(chunkLastId, ids.size());
+    }
+
+    private record Chunk(long lastId, int archived) {
+    }
+}
@@ -1,6 +1,9 @@
 package com.elice.sdz.category.entity;
 
+import com.elice.sdz.global.web.CollectionVersionListener;
+import com.elice.sdz.global.web.VersionedCollection;
 import com.elice.sdz.product.entity.Product;
+import com.elice.sdz.product.event.ProductDetailChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -14,6 +17,8 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "category")
+@EntityListeners({ProductDetailChangeListener.class, CollectionVersionListener.class})
+@VersionedCollection({"products", "categories"})
 public class Category {
 
     @Id
@@ -0,0 +1,17 @@
+package com.elice.sdz.category.repository;
+
+import com.elice.sdz.category.entity.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    // 이름 -> ID 조회 (엔티티/연관관계 로딩 없이 ID만)
+    @Query("select c.categoryId from Category c where c.categoryName = :categoryName order by c.categoryId")
+    List<Long> findIdsByCategoryName(@Param("categoryName") String categoryName);
+}
@@ -0,0 +1,73 @@
+package com.elice.sdz.category.service;
+
+import com.elice.sdz.category.repository.CategoryRepository;
+import com.elice.sdz.global.web.CollectionVersions;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 카테고리 이름 -> ID 캐시 (대량 등록 시 행마다 카테고리를 조회하지 않도록)
+// - 이 인스턴스에서 카테고리가 변경되면 ("categories" 버전이 바뀌면) 다음 조회 때 전체를 다시 읽는다
+// - 다른 인스턴스나 JDBC 로 직접 바꾼 경우는 TTL 이 지나면 반영된다
+@Component
+public class CategoryCache {
+
+    private static final long TTL_NANOS = Duration.ofMinutes(5).toNanos();
+
+    private final CategoryRepository categoryRepository;
+    private final CollectionVersions collectionVersions;
+    private volatile Generation generation = new Generation(-1, 0);
+
+    public CategoryCache(CategoryRepository categoryRepository, CollectionVersions collectionVersions) {
+        this.categoryRepository = categoryRepository;
+        this.collectionVersions = collectionVersions;
+    }
+
+    // 없는 이름은 캐시하지 않음 (이후 생성된 카테고리를 놓치지 않도록)
+    public Optional<Long> findIdByName(String categoryName) {
+        if (categoryName == null) {
+            return Optional.empty();
+        }
+        Map<String, Long> idsByName = currentEntries();
+        Long cached = idsByName.get(categoryName);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        List<Long> ids = categoryRepository.findIdsByCategoryName(categoryName);
+        if (ids.isEmpty()) {
+            return Optional.empty();
+        }
+        Long id = ids.get(0);
+        idsByName.putIfAbsent(categoryName, id);
+        return Optional.of(id);
+    }
+
+    public void evict(String categoryName) {
+        generation.idsByName().remove(categoryName);
+    }
+
+    public void clear() {
+        generation = new Generation(-1, 0);
+    }
+
+    private Map<String, Long> currentEntries() {
+        long version = collectionVersions.current("categories").version();
+        Generation current = generation;
+        if (current.version() != version || System.nanoTime() - current.loadedAt() > TTL_NANOS) {
+            current = new Generation(version, System.nanoTime());
+            generation = current;
+        }
+        return current.idsByName();
+    }
+
+    private record Generation(long version, long loadedAt, Map<String, Long> idsByName) {
+
+        private Generation(long version, long loadedAt) {
+            this(version, loadedAt, new ConcurrentHashMap<>());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.elice.sdz.delivery.dto;
+
+import com.elice.sdz.delivery.entity.Delivery;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema
+public class DeliveryDto {
+    private Long deliveryId;                // 배송 ID
+    private Long deliveryAddressId;         // 배송지 ID
+    private Long orderId;                   // 주문 ID
+    private Instant regDate;                // 등록일
+    private Delivery.Status deliveryStatus; // 배송 상태
+}
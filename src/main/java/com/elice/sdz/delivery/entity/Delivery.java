@@ -20,7 +20,7 @@ public class Delivery {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long deliveryId;
 
-    @OneToOne
+    @ManyToOne // 같은 배송지로 여러 번 배송
     @JoinColumn(name = "delivery_address_id", nullable = false)
     private DeliveryAddress deliveryAddressId;
 
@@ -18,7 +18,7 @@ public class DeliveryAddress {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long deliveryAddressId;
 
-    @OneToOne
+    @ManyToOne // 회원당 여러 배송지 (Users.deliveryAddresses)
     @JoinColumn(name = "user_id", nullable = false)
     private Users userId;
 
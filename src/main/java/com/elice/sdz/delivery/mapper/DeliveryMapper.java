@@ -0,0 +1,19 @@
+package com.elice.sdz.delivery.mapper;
+
+import com.elice.sdz.delivery.dto.DeliveryDto;
+import com.elice.sdz.delivery.entity.Delivery;
+import com.elice.sdz.global.config.MapperConfiguration;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(config = MapperConfiguration.class)
+public interface DeliveryMapper {
+
+    @Mapping(target = "deliveryAddressId", source = "deliveryAddressId.deliveryAddressId")
+    @Mapping(target = "orderId", source = "orderId.orderId")
+    DeliveryDto toDto(Delivery delivery);
+
+    List<DeliveryDto> toDtoList(List<Delivery> deliveries);
+}
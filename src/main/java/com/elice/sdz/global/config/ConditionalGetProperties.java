@@ -0,0 +1,12 @@
+package com.elice.sdz.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sdz.conditional-get")
+public class ConditionalGetProperties {
+    private Duration versionRefreshInterval = Duration.ofSeconds(1); // 다른 인스턴스의 변경이 ETag 에 반영되기까지의 최대 시간
+}
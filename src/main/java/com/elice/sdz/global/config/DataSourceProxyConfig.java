@@ -0,0 +1,55 @@
+package com.elice.sdz.global.config;
+
+import com.elice.sdz.global.datasource.SlowQueryListener;
+import io.micrometer.observation.ObservationRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import net.ttddyy.observation.tracing.DataSourceObservationListener;
+import net.ttddyy.observation.tracing.JdbcObservationDocumentation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.util.EnumSet;
+
+// 애플리케이션 DataSource 를 JDBC 프록시로 감싸 느린 쿼리를 기록하고 커넥션/쿼리 스팬을 만든다
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryProperties> properties,
+                                                                     ObjectProvider<TracingProperties> tracingProperties,
+                                                                     ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource
+                        || !"dataSource".equals(beanName)) {
+                    return bean;
+                }
+                SlowQueryProperties slowQuery = properties.getObject();
+                TracingProperties.Jdbc jdbcTracing = tracingProperties.getObject().getJdbc();
+                if (!slowQuery.isEnabled() && !jdbcTracing.isEnabled()) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource).name(beanName);
+                if (slowQuery.isEnabled()) {
+                    builder.listener(new SlowQueryListener(slowQuery));
+                }
+                if (jdbcTracing.isEnabled()) {
+                    // 레지스트리는 첫 쿼리 시점에 한 번 조회 (후처리기는 관측 설정보다 먼저 만들어진다)
+                    DataSourceObservationListener listener = new DataSourceObservationListener(SingletonSupplier.of(
+                            () -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP)));
+                    listener.setIncludeParameterValues(jdbcTracing.isIncludeParameterValues());
+                    // 커넥션 스팬은 커넥션 반환 시점(open-in-view 면 요청 끝)에 닫혀 스코프 순서가 어긋나므로 쿼리 스팬만 만든다
+                    listener.setSupportedTypes(EnumSet.of(JdbcObservationDocumentation.QUERY));
+                    builder.listener(listener);
+                }
+                return builder.build();
+            }
+        };
+    }
+}
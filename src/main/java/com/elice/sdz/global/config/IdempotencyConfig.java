@@ -0,0 +1,40 @@
+package com.elice.sdz.global.config;
+
+import com.elice.sdz.global.exception.ErrorResponseWriter;
+import com.elice.sdz.global.idempotency.IdempotencyFilter;
+import com.elice.sdz.global.idempotency.IdempotencyStore;
+import com.elice.sdz.global.idempotency.InMemoryIdempotencyStore;
+import com.elice.sdz.global.idempotency.JdbcIdempotencyStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@ConditionalOnProperty(prefix = "sdz.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties, ObjectProvider<JdbcTemplate> jdbcTemplate) {
+        InMemoryIdempotencyStore memory = new InMemoryIdempotencyStore(properties.getInProgressTimeout(),
+                properties.getMaxEntries());
+        if (!properties.isPersistent()) {
+            return memory;
+        }
+        return new JdbcIdempotencyStore(jdbcTemplate.getObject(), memory, properties.getInProgressTimeout());
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore idempotencyStore,
+                                                                       IdempotencyProperties properties,
+                                                                       ErrorResponseWriter errorResponseWriter) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyStore, properties, errorResponseWriter));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
@@ -0,0 +1,21 @@
+package com.elice.sdz.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "sdz.idempotency")
+public class IdempotencyProperties {
+    private boolean enabled = true;                             // Idempotency-Key 처리 여부
+    private Duration ttl = Duration.ofHours(24);                // 저장된 응답 보관 기간
+    private Duration inProgressTimeout = Duration.ofMinutes(2); // 처리 중 선점 임대 시간 (요청 제한 시간의 몇 배)
+    private int maxEntries = 10000;                             // 메모리 저장소 최대 항목 수
+    private int maxKeyLength = 100;                             // 허용하는 키 최대 길이
+    private int maxBodyBytes = 256 * 1024;                      // 저장/비교할 요청·응답 본문 최대 크기
+    private boolean persistent = false;                         // DB 에도 저장 (여러 인스턴스/재시작 간 공유)
+    private List<String> pathPatterns = new ArrayList<>(List.of("/api/orders/**", "/api/orders", "/api/payments/**"));
+}
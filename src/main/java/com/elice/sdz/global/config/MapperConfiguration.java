@@ -0,0 +1,17 @@
+package com.elice.sdz.global.config;
+
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+// 모든 매퍼 공통 설정
+// - 스프링 빈으로 생성 (생성자 주입)
+// - 대상 필드가 매핑되지 않으면 컴파일 에러 (엔티티/DTO 필드 변경 누락 방지)
+@MapperConfig(
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR,
+        unmappedTargetPolicy = ReportingPolicy.ERROR
+)
+public interface MapperConfiguration {
+}
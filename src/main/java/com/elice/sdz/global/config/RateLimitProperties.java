@@ -0,0 +1,44 @@
+package com.elice.sdz.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "sdz.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private Limit defaultLimit = new Limit(60, 20);            // 클라이언트 + 엔드포인트별 기본 한도
+    private Map<String, Limit> endpoints = new LinkedHashMap<>(); // "POST /api/orders" 형태의 엔드포인트별 한도
+    private int maxBuckets = 100000;                           // 메모리에 유지할 최대 버킷 수
+    private Duration bucketIdleTimeout = Duration.ofMinutes(5); // 이 시간 동안 쓰이지 않은 버킷은 정리
+    private boolean trustForwardedFor = false;                 // 프록시 뒤에서 X-Forwarded-For 로 클라이언트 IP 판별
+    private Concurrency concurrency = new Concurrency();
+
+    @Data
+    public static class Limit {
+        private int capacity;           // 순간 허용량 (버스트)
+        private double refillPerSecond; // 초당 충전량 (평균 허용 속도)
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+
+    @Data
+    public static class Concurrency {
+        private boolean enabled = true;
+        private int initialLimit = 50;  // 시작 동시 처리 한도
+        private int minLimit = 10;
+        private int maxLimit = 400;
+        private double smoothing = 0.2; // 한도 변경 반영 비율
+        private double tolerance = 1.5; // 평소 대비 이 배수까지의 지연 증가는 허용
+    }
+}
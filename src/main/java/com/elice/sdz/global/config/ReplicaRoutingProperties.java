@@ -0,0 +1,28 @@
+package com.elice.sdz.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "sdz.datasource.routing")
+public class ReplicaRoutingProperties {
+    private boolean enabled = false;                              // 읽기 전용 트랜잭션 레플리카 라우팅 사용 여부
+    private List<Replica> replicas = new ArrayList<>();           // 레플리카 목록
+    private Duration maxLag = Duration.ofSeconds(2);              // 이보다 지연된 레플리카는 제외
+    private Duration healthCheckInterval = Duration.ofSeconds(5); // 지연/상태 확인 주기
+    private String lagQuery = "";                                 // 지연(초) 조회 쿼리, 비어 있으면 SHOW REPLICA STATUS 사용
+    private Duration readYourWritesWindow = Duration.ofSeconds(5); // 쓰기 후 이 시간 동안 해당 클라이언트는 primary 에서 읽음
+
+    @Data
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
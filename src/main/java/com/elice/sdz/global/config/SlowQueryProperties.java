@@ -0,0 +1,16 @@
+package com.elice.sdz.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sdz.datasource.slow-query")
+public class SlowQueryProperties {
+    private boolean enabled = true;                     // JDBC 프록시 적용 여부
+    private Duration threshold = Duration.ofMillis(500); // 이 시간 이상 걸린 쿼리를 로그로 남김
+    private boolean logParameters = true;               // 바인드 파라미터 포함 여부
+    private int maxParameterSets = 10;                  // batch 쿼리에서 출력할 최대 파라미터 세트 수
+    private int maxParameterLength = 100;               // 파라미터 값 최대 길이 (초과 시 잘라냄)
+}
@@ -0,0 +1,40 @@
+package com.elice.sdz.global.config;
+
+import com.elice.sdz.global.startup.FirstRequestReporter;
+import com.elice.sdz.global.startup.SelectiveLazyInitPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+// 기동 시간 관련 설정 (fast-startup 프로필 참고)
+@Configuration
+public class StartupConfig {
+
+    // 빈 팩토리 후처리기는 설정 프로퍼티 빈보다 먼저 만들어지므로 Binder 로 직접 읽는다
+    @Bean
+    @ConditionalOnProperty(prefix = "sdz.startup", name = "lazy-init-enabled", havingValue = "true")
+    public static SelectiveLazyInitPostProcessor selectiveLazyInitPostProcessor(Environment environment) {
+        StartupProperties properties = Binder.get(environment)
+                .bind("sdz.startup", StartupProperties.class)
+                .orElseGet(StartupProperties::new);
+        return new SelectiveLazyInitPostProcessor(properties.getLazyBeanPrefixes());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "sdz.startup", name = "report-first-request", havingValue = "true", matchIfMissing = true)
+    public FirstRequestReporter firstRequestReporter() {
+        return new FirstRequestReporter();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "sdz.startup", name = "report-first-request", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<FirstRequestReporter> firstRequestReporterRegistration(FirstRequestReporter reporter) {
+        FilterRegistrationBean<FirstRequestReporter> registration = new FilterRegistrationBean<>(reporter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
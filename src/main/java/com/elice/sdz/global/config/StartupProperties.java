@@ -0,0 +1,19 @@
+package com.elice.sdz.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "sdz.startup")
+public class StartupProperties {
+    private boolean lazyInitEnabled = false;                 // 비핵심 빈 지연 생성 (fast-startup 프로필에서 켬)
+    private List<String> lazyBeanPrefixes = new ArrayList<>(List.of(
+            "org.springdoc.",                                // swagger ui / api docs
+            "org.springframework.boot.autoconfigure.mail.",  // 메일 발송
+            "com.elice.sdz.image."                           // 이미지 처리
+    ));
+    private boolean reportFirstRequest = true;               // 첫 요청 처리 시각 로그
+}
@@ -0,0 +1,69 @@
+package com.elice.sdz.global.config;
+
+import com.elice.sdz.global.tracing.RateLimitingSampler;
+import com.elice.sdz.global.tracing.TailSamplingSpanProcessor;
+import com.elice.sdz.global.tracing.TransactionObservationAspect;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.exporter.logging.otlp.internal.traces.OtlpStdoutSpanExporter;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// 트레이싱 구성
+// - 헤드 샘플링: 초당 N 개 트레이스 (management.tracing.sampling.probability 대신 사용)
+// - tail 샘플링: 나머지 트레이스 중 느린 것만 수집
+// - 스팬: HTTP 요청(actuator), @Transactional 서비스 메서드, JDBC 쿼리(DataSourceProxyConfig), 비동기 작업
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public Sampler rateLimitingSampler(TracingProperties properties) {
+        return new RateLimitingSampler(properties.getRatePerSecond(), properties.getTail().isEnabled());
+    }
+
+    // 기본 BatchSpanProcessor(샘플링된 스팬 전용)와 함께 등록되어 샘플링되지 않은 스팬만 처리
+    @Bean
+    @ConditionalOnProperty(prefix = "sdz.tracing.tail", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public TailSamplingSpanProcessor tailSamplingSpanProcessor(TracingProperties properties,
+                                                               ObjectProvider<SpanExporter> spanExporters) {
+        TracingProperties.Tail tail = properties.getTail();
+        List<SpanExporter> exporters = spanExporters.orderedStream().toList();
+        BatchSpanProcessor delegate = BatchSpanProcessor.builder(SpanExporter.composite(exporters))
+                .setExportUnsampledSpans(true)
+                .build();
+        return new TailSamplingSpanProcessor(delegate, tail.getSlowThreshold().toNanos(), tail.getMaxTraces(),
+                tail.getMaxSpansPerTrace(), tail.getMaxTraceAge().toNanos());
+    }
+
+    // OTLP JSON 파일 (collector 의 otlpjsonfile receiver 나 로컬 분석용)
+    // OtlpStdoutSpanExporter 는 이 버전에서 internal 패키지에 있다
+    @Bean
+    @ConditionalOnProperty(prefix = "sdz.tracing", name = "export-file")
+    public SpanExporter otlpFileSpanExporter(TracingProperties properties) throws IOException {
+        Path path = Path.of(properties.getExportFile());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        OutputStream out = new FileOutputStream(path.toFile(), true);
+        return OtlpStdoutSpanExporter.builder()
+                .setOutput(out)
+                .setWrapperJsonObject(true)
+                .build();
+    }
+
+    @Bean
+    public TransactionObservationAspect transactionObservationAspect(ObservationRegistry observationRegistry) {
+        return new TransactionObservationAspect(observationRegistry);
+    }
+}
@@ -0,0 +1,30 @@
+package com.elice.sdz.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sdz.tracing")
+public class TracingProperties {
+    private double ratePerSecond = 5;   // 초당 수집(export)할 최대 트레이스 수 (헤드 샘플링)
+    private Tail tail = new Tail();
+    private Jdbc jdbc = new Jdbc();
+    private String exportFile;          // 지정하면 OTLP JSON 으로 파일에 기록 (한 줄에 한 배치)
+
+    @Data
+    public static class Tail {
+        private boolean enabled = true;                   // 헤드 샘플링에서 빠진 트레이스도 느리면 수집
+        private Duration slowThreshold = Duration.ofSeconds(1);
+        private int maxTraces = 2000;                     // 동시에 보관하는 미결정 트레이스 수
+        private int maxSpansPerTrace = 256;
+        private Duration maxTraceAge = Duration.ofMinutes(1); // 루트 스팬이 끝나지 않은 트레이스 정리 기준
+    }
+
+    @Data
+    public static class Jdbc {
+        private boolean enabled = true;                   // 쿼리 스팬
+        private boolean includeParameterValues = false;   // 바인딩 값은 개인정보가 섞일 수 있어 기본 제외
+    }
+}
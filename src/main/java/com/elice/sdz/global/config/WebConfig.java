@@ -0,0 +1,49 @@
+package com.elice.sdz.global.config;
+
+import com.elice.sdz.global.exception.ErrorResponseWriter;
+import com.elice.sdz.global.ratelimit.RateLimitInterceptor;
+import com.elice.sdz.global.web.CollectionVersions;
+import com.elice.sdz.global.web.ConditionalGetInterceptor;
+import com.elice.sdz.global.web.HandlerMdcInterceptor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class WebConfig implements WebMvcConfigurer {
+
+    private final RateLimitProperties rateLimitProperties;
+    private final ObjectMapper objectMapper;
+    private final CollectionVersions collectionVersions;
+
+    public WebConfig(RateLimitProperties rateLimitProperties, ObjectMapper objectMapper,
+                     CollectionVersions collectionVersions) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.objectMapper = objectMapper;
+        this.collectionVersions = collectionVersions;
+    }
+
+    @Bean
+    public ErrorResponseWriter errorResponseWriter() {
+        return new ErrorResponseWriter(objectMapper);
+    }
+
+    @Bean
+    public RateLimitInterceptor rateLimitInterceptor() {
+        return new RateLimitInterceptor(rateLimitProperties, errorResponseWriter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerMdcInterceptor())
+                .addPathPatterns("/api/**");
+        registry.addInterceptor(rateLimitInterceptor())
+                .addPathPatterns("/api/**");
+        registry.addInterceptor(new ConditionalGetInterceptor(collectionVersions))
+                .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,142 @@
+package com.elice.sdz.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 읽기 전용 커넥션 공급자: 정상(지연이 허용 범위 내) 레플리카를 라운드 로빈으로 선택하고,
+// 사용할 레플리카가 없거나 read-your-writes 로 고정된 요청이면 primary 를 사용
+@Slf4j
+public class ReplicaPool extends AbstractDataSource implements Closeable {
+
+    private final List<Node> nodes;
+    private final DataSource primary;
+    private final long maxLagSeconds;
+    private final String lagQuery;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicaPool(Map<String, DataSource> replicas, DataSource primary, Duration maxLag, String lagQuery) {
+        this.nodes = replicas.entrySet().stream().map(e -> new Node(e.getKey(), e.getValue())).toList();
+        this.primary = primary;
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.lagQuery = lagQuery;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ReadYourWritesContext.isPinned()) {
+            return primary.getConnection();
+        }
+        int size = nodes.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Node node = nodes.get((start + i) % size);
+            if (!node.healthy) {
+                continue;
+            }
+            try {
+                return node.dataSource.getConnection();
+            } catch (SQLException e) {
+                node.healthy = false;
+                log.warn("Replica {} unavailable, excluding until next health check: {}", node.name, e.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    public void startHealthChecks(Duration interval) {
+        healthChecker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replica-health-"));
+        healthChecker.scheduleWithFixedDelay(this::refreshHealth, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // 각 레플리카의 지연을 조회해 허용 범위를 넘으면 라우팅 대상에서 제외
+    public void refreshHealth() {
+        for (Node node : nodes) {
+            try (Connection con = node.dataSource.getConnection()) {
+                long lag = readLagSeconds(con);
+                boolean healthy = lag >= 0 && lag <= maxLagSeconds;
+                if (healthy != node.healthy) {
+                    log.info("Replica {} {} (lag {}s)", node.name, healthy ? "back in rotation" : "excluded", lag);
+                }
+                node.lagSeconds = lag;
+                node.healthy = healthy;
+            } catch (SQLException | RuntimeException e) {
+                if (node.healthy) {
+                    log.warn("Replica {} health check failed: {}", node.name, e.getMessage());
+                }
+                node.healthy = false;
+            }
+        }
+    }
+
+    public boolean hasHealthyReplica() {
+        return nodes.stream().anyMatch(node -> node.healthy);
+    }
+
+    // 지연(초). 복제가 멈췄거나 설정되지 않았으면 -1
+    private long readLagSeconds(Connection con) throws SQLException {
+        try (Statement statement = con.createStatement()) {
+            if (StringUtils.hasText(lagQuery)) {
+                try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                    return rs.next() ? rs.getLong(1) : -1;
+                }
+            }
+            try (ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!rs.next()) {
+                    return -1;
+                }
+                long lag = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? -1 : lag;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Node node : nodes) {
+            if (node.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close replica {}", node.name, e);
+                }
+            }
+        }
+    }
+
+    private static final class Node {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        private volatile long lagSeconds;
+
+        private Node(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
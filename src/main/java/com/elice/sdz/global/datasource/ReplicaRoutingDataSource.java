@@ -0,0 +1,69 @@
+package com.elice.sdz.global.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+// @Transactional(readOnly = true) 는 레플리카, 그 외는 primary 로 보내는 DataSource
+// 실제 커넥션을 첫 쿼리 시점까지 미루므로 트랜잭션 시작 시 설정된 read-only 여부로 대상을 고를 수 있다
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final DataSource primary;
+    private final ReplicaPool replicaPool;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaPool replicaPool, Duration readYourWritesWindow) {
+        this.primary = primary;
+        this.replicaPool = replicaPool;
+        setTargetDataSource(new WriteTrackingDataSource(primary, readYourWritesWindow));
+        setReadOnlyDataSource(replicaPool);
+        afterPropertiesSet();
+    }
+
+    public ReplicaPool getReplicaPool() {
+        return replicaPool;
+    }
+
+    @Override
+    public void close() {
+        replicaPool.close();
+        if (primary instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception ignored) {
+                // 종료 중이므로 무시
+            }
+        }
+    }
+
+    // 쓰기 트랜잭션에서 primary 커넥션을 얻으면 커밋 후 read-your-writes 고정을 건다
+    private static final class WriteTrackingDataSource extends DelegatingDataSource {
+
+        private final Duration window;
+
+        private WriteTrackingDataSource(DataSource target, Duration window) {
+            super(target);
+            this.window = window;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (TransactionSynchronizationManager.isSynchronizationActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        ReadYourWritesContext.markWriteCommitted(window);
+                    }
+                });
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.elice.sdz.global.datasource;
+
+import com.elice.sdz.global.config.SlowQueryProperties;
+import com.elice.sdz.global.web.HandlerMdcInterceptor;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.MDC;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+// 임계값 이상 걸린 쿼리를 바인드 파라미터, 호출한 컨트롤러 메서드와 함께 기록
+@Slf4j
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private final SlowQueryProperties properties;
+    private final long thresholdMillis;
+    private final LongAdder slowQueryCount = new LongAdder();
+
+    public SlowQueryListener(SlowQueryProperties properties) {
+        this.properties = properties;
+        this.thresholdMillis = properties.getThreshold().toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < thresholdMillis) {
+            return;
+        }
+        slowQueryCount.increment();
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        String handler = MDC.get(HandlerMdcInterceptor.HANDLER_KEY);
+        log.warn("Slow query: {} ms, handler={}, batchSize={}, success={}, {}",
+                execInfo.getElapsedTime(),
+                handler == null ? "-" : handler,
+                execInfo.isBatch() ? execInfo.getBatchSize() : 0,
+                execInfo.isSuccess(),
+                describe(queryInfoList));
+    }
+
+    public long getSlowQueryCount() {
+        return slowQueryCount.sum();
+    }
+
+    private String describe(List<QueryInfo> queryInfoList) {
+        StringBuilder sb = new StringBuilder();
+        for (QueryInfo queryInfo : queryInfoList) {
+            sb.append("query=[").append(queryInfo.getQuery()).append(']');
+            if (!properties.isLogParameters()) {
+                continue;
+            }
+            List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+            int sets = Math.min(parametersList.size(), properties.getMaxParameterSets());
+            sb.append(" params=[");
+            for (int i = 0; i < sets; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                appendParameters(sb, parametersList.get(i));
+            }
+            if (parametersList.size() > sets) {
+                sb.append(", ... ").append(parametersList.size() - sets).append(" more");
+            }
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    private void appendParameters(StringBuilder sb, List<ParameterSetOperation> operations) {
+        sb.append('(');
+        List<ParameterSetOperation> sorted = operations.stream()
+                .sorted(Comparator.comparing(op -> String.valueOf(op.getArgs()[0]),
+                        Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder())))
+                .toList();
+        for (int i = 0; i < sorted.size(); i++) {
+            Object[] args = sorted.get(i).getArgs();
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(truncate(args.length > 1 ? args[1] : null));
+        }
+        sb.append(')');
+    }
+
+    private String truncate(Object value) {
+        String text = String.valueOf(value);
+        int max = properties.getMaxParameterLength();
+        return text.length() <= max ? text : text.substring(0, max) + "...";
+    }
+}
@@ -0,0 +1,20 @@
+package com.elice.sdz.global.exception;
+
+import lombok.Getter;
+
+// ErrorCode 로 식별되는 예상된 도메인 예외
+// 호출 위치 정보가 필요 없으므로 스택 트레이스를 만들지 않는다 (생성 비용이 객체 하나 수준)
+@Getter
+public class BusinessException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public BusinessException(ErrorCode errorCode) {
+        this(errorCode, errorCode.getMessage());
+    }
+
+    public BusinessException(ErrorCode errorCode, String message) {
+        super(message, null, false, false);
+        this.errorCode = errorCode;
+    }
+}
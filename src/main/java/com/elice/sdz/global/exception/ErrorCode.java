@@ -26,6 +26,27 @@ public enum ErrorCode {
     PAYMENT_FAILED(HttpStatus.BAD_REQUEST, "PAYMENT_FAILED", "Payment processing failed."),
     PAYMENT_METHOD_INVALID(HttpStatus.BAD_REQUEST, "PAYMENT_METHOD_INVALID", "Invalid payment method."),
 
+    // 문의 대기열 관련 에러
+    INQUIRY_NOT_FOUND(HttpStatus.NOT_FOUND, "INQUIRY_NOT_FOUND", "The inquiry does not exist."),
+    INQUIRY_ALREADY_ANSWERED(HttpStatus.CONFLICT, "INQUIRY_ALREADY_ANSWERED", "The inquiry has already been answered."),
+    INQUIRY_ALREADY_CLAIMED(HttpStatus.CONFLICT, "INQUIRY_ALREADY_CLAIMED", "The inquiry is claimed by another admin."),
+    INQUIRY_CLAIM_REQUIRED(HttpStatus.CONFLICT, "INQUIRY_CLAIM_REQUIRED", "Claim the inquiry before answering. The claim may have expired."),
+
+    // 멱등성 키 관련 에러
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "INVALID_IDEMPOTENCY_KEY", "The Idempotency-Key header is invalid."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "IDEMPOTENCY_REQUEST_IN_PROGRESS", "A request with this Idempotency-Key is still being processed."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED", "The Idempotency-Key was already used with a different request."),
+    IDEMPOTENCY_PAYLOAD_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "IDEMPOTENCY_PAYLOAD_TOO_LARGE", "The request body is too large for an idempotent request."),
+
+    // 유입 제어 관련 에러
+    RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "RATE_LIMIT_EXCEEDED", "Too many requests. Please retry later."),
+    SERVER_OVERLOADED(HttpStatus.TOO_MANY_REQUESTS, "SERVER_OVERLOADED", "The server is busy. Please retry later."),
+
+    // 요청 형식 관련 에러
+    INVALID_INPUT(HttpStatus.BAD_REQUEST, "INVALID_INPUT", "The request is invalid."),
+    RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "RESOURCE_NOT_FOUND", "The requested resource does not exist."),
+    METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "METHOD_NOT_ALLOWED", "The HTTP method is not supported for this resource."),
+
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "An unexpected error occurred.");
 
     private final HttpStatus httpStatus;
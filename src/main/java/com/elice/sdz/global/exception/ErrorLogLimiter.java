@@ -0,0 +1,42 @@
+package com.elice.sdz.global.exception;
+
+import com.elice.sdz.global.ratelimit.TokenBucket;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 같은 종류의 에러 로그를 분당 일정 개수로 제한 (같은 에러가 반복되면 로그와 스택 트레이스 출력 비용이 커진다)
+public class ErrorLogLimiter {
+
+    private static final String OVERFLOW_KEY = "*";
+
+    private final int perMinute;
+    private final int maxKeys;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public ErrorLogLimiter(int perMinute, int maxKeys) {
+        this.perMinute = perMinute;
+        this.maxKeys = maxKeys;
+    }
+
+    // 기록해도 되면 그동안 생략된 개수(0 이상), 생략해야 하면 -1
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        if (!entries.containsKey(key) && entries.size() >= maxKeys) {
+            key = OVERFLOW_KEY;
+        }
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry(new TokenBucket(perMinute, perMinute / 60d, now)));
+        if (entry.bucket.tryConsume(now)) {
+            return entry.suppressed.getAndSet(0);
+        }
+        entry.suppressed.incrementAndGet();
+        return -1;
+    }
+
+    private record Entry(TokenBucket bucket, AtomicLong suppressed) {
+        private Entry(TokenBucket bucket) {
+            this(bucket, new AtomicLong());
+        }
+    }
+}
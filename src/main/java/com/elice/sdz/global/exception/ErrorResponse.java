@@ -23,4 +23,8 @@ public class ErrorResponse {
                );
     }
 
+    public static ErrorResponse of(ErrorCode errorCode, String message) {
+        return new ErrorResponse(errorCode.getHttpStatus(), errorCode.getErrorCode(), message);
+    }
+
 }
@@ -0,0 +1,65 @@
+package com.elice.sdz.global.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+// ErrorCode 별 ErrorResponse JSON 을 미리 직렬화해 두고 그대로 쓴다 (에러 응답마다 직렬화하지 않음)
+// 예외에 기본 메시지와 다른 상세 메시지가 있을 때만 그 응답을 따로 직렬화한다
+public class ErrorResponseWriter {
+
+    private final ObjectMapper objectMapper;
+    private final Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            try {
+                bodies.put(errorCode, objectMapper.writeValueAsBytes(ErrorResponse.of(errorCode)));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public byte[] body(ErrorCode errorCode) {
+        return bodies.get(errorCode);
+    }
+
+    public byte[] body(ErrorCode errorCode, String message) {
+        if (message == null || message.equals(errorCode.getMessage())) {
+            return bodies.get(errorCode);
+        }
+        try {
+            return objectMapper.writeValueAsBytes(ErrorResponse.of(errorCode, message));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public ResponseEntity<byte[]> toResponseEntity(ErrorCode errorCode) {
+        return toResponseEntity(errorCode, null);
+    }
+
+    public ResponseEntity<byte[]> toResponseEntity(ErrorCode errorCode, String message) {
+        return ResponseEntity.status(errorCode.getHttpStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body(errorCode, message));
+    }
+
+    // 필터/인터셉터처럼 컨트롤러 밖에서 응답을 직접 쓰는 경우
+    public void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        byte[] body = bodies.get(errorCode);
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
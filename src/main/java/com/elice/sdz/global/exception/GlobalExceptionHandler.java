@@ -1,22 +1,67 @@
 package com.elice.sdz.global.exception;
 
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
-    // 모든 예외를 처리하는 기본 핸들러
-    @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponse> handleGlobalException(Exception e) {
-        log.error("Global exception occurred: ", e);
+    private final ErrorResponseWriter errorResponseWriter;
+    private final ErrorLogLimiter errorLogLimiter = new ErrorLogLimiter(10, 256);
+
+    public GlobalExceptionHandler(ErrorResponseWriter errorResponseWriter) {
+        this.errorResponseWriter = errorResponseWriter;
+    }
 
-        ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.INTERNAL_SERVER_ERROR);
+    // 예상된 도메인 예외: 스택 트레이스 없이 ErrorCode 에 맞는 상태 코드로 응답 (상세 메시지가 있으면 함께 전달)
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<byte[]> handleBusinessException(BusinessException e) {
+        log.debug("Business exception: {} {}", e.getErrorCode(), e.getMessage());
+        return errorResponseWriter.toResponseEntity(e.getErrorCode(), e.getMessage());
+    }
+
+    // 잘못된 요청 (경로 변수/파라미터 타입 불일치, 본문 파싱 실패, 필수 파라미터 누락, 검증 실패)
+    @ExceptionHandler({
+            MethodArgumentTypeMismatchException.class,
+            HttpMessageNotReadableException.class,
+            MissingServletRequestParameterException.class,
+            MethodArgumentNotValidException.class
+    })
+    public ResponseEntity<byte[]> handleInvalidInput(Exception e) {
+        log.debug("Invalid request: {}", e.getMessage());
+        return errorResponseWriter.toResponseEntity(ErrorCode.INVALID_INPUT);
+    }
 
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<byte[]> handleNoResource(NoResourceFoundException e) {
+        return errorResponseWriter.toResponseEntity(ErrorCode.RESOURCE_NOT_FOUND);
+    }
+
+    @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
+    public ResponseEntity<byte[]> handleMethodNotSupported(HttpRequestMethodNotSupportedException e) {
+        return errorResponseWriter.toResponseEntity(ErrorCode.METHOD_NOT_ALLOWED);
+    }
+
+    // 모든 예외를 처리하는 기본 핸들러 (같은 종류의 에러 로그는 분당 10건까지만 스택 트레이스와 함께 기록)
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<byte[]> handleGlobalException(Exception e) {
+        StackTraceElement[] stackTrace = e.getStackTrace();
+        String key = e.getClass().getName() + (stackTrace.length > 0 ? "@" + stackTrace[0] : "");
+        long suppressed = errorLogLimiter.tryAcquire(key);
+        if (suppressed > 0) {
+            log.error("Global exception occurred ({} similar errors suppressed): ", suppressed, e);
+        } else if (suppressed == 0) {
+            log.error("Global exception occurred: ", e);
+        }
+        return errorResponseWriter.toResponseEntity(ErrorCode.INTERNAL_SERVER_ERROR);
     }
 }
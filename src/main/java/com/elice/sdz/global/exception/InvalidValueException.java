@@ -0,0 +1,32 @@
+package com.elice.sdz.global.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// 400 예외. 고정 메시지는 ErrorCode 별 인스턴스를 재사용하고, 상세 메시지가 필요하면 새로 만든다
+public class InvalidValueException extends BusinessException {
+
+    private static final Map<ErrorCode, InvalidValueException> INSTANCES = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            if (errorCode.getHttpStatus() == HttpStatus.BAD_REQUEST) {
+                INSTANCES.put(errorCode, new InvalidValueException(errorCode, errorCode.getMessage()));
+            }
+        }
+    }
+
+    public InvalidValueException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+
+    public static InvalidValueException of(ErrorCode errorCode) {
+        InvalidValueException exception = INSTANCES.get(errorCode);
+        if (exception == null) {
+            throw new IllegalArgumentException(errorCode + " is not a 400 error code");
+        }
+        return exception;
+    }
+}
@@ -0,0 +1,32 @@
+package com.elice.sdz.global.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// 404 예외. 스택 트레이스와 가변 상태가 없으므로 ErrorCode 별로 하나의 인스턴스를 재사용한다
+public class NotFoundException extends BusinessException {
+
+    private static final Map<ErrorCode, NotFoundException> INSTANCES = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            if (errorCode.getHttpStatus() == HttpStatus.NOT_FOUND) {
+                INSTANCES.put(errorCode, new NotFoundException(errorCode));
+            }
+        }
+    }
+
+    private NotFoundException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+    public static NotFoundException of(ErrorCode errorCode) {
+        NotFoundException exception = INSTANCES.get(errorCode);
+        if (exception == null) {
+            throw new IllegalArgumentException(errorCode + " is not a 404 error code");
+        }
+        return exception;
+    }
+}
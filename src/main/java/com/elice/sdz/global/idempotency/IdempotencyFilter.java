@@ -0,0 +1,236 @@
+package com.elice.sdz.global.idempotency;
+
+import com.elice.sdz.global.config.IdempotencyProperties;
+import com.elice.sdz.global.exception.BusinessException;
+import com.elice.sdz.global.exception.ErrorCode;
+import com.elice.sdz.global.exception.ErrorResponseWriter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Idempotency-Key 헤더가 있는 변경 요청(POST/PUT/PATCH/DELETE)을 한 번만 처리
+// - 처음 요청: 키를 선점하고 처리한 뒤 응답을 저장
+// - 재요청: 저장된 응답을 그대로 반환 (트랜잭션 실행 없음)
+// - 처리 중 동시 요청: 409 로 바로 거절
+// - 같은 키, 다른 요청 본문: 422
+// - 처리 결과가 5xx 나 429/409 같은 일시적 오류면 저장하지 않고 키를 해제 (Retry-After 이후 재시도 가능)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    // 유입 제어(429), 충돌(409) 등 재시도하면 결과가 달라질 수 있는 응답은 저장하지 않는다
+    private static final Set<Integer> TRANSIENT_STATUSES = Set.of(408, 409, 425, 429);
+
+    // 응답마다 새로 정해지거나 재사용하면 안 되는 헤더는 저장하지 않는다 (소문자)
+    private static final Set<String> UNSTORED_HEADERS = Set.of("content-type", "content-length", "transfer-encoding",
+            "connection", "keep-alive", "date", "set-cookie", "retry-after", REPLAYED_HEADER.toLowerCase());
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public IdempotencyFilter(IdempotencyStore store, IdempotencyProperties properties,
+                             ErrorResponseWriter errorResponseWriter) {
+        this.store = store;
+        this.properties = properties;
+        this.errorResponseWriter = errorResponseWriter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!METHODS.contains(request.getMethod()) || request.getHeader(HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return properties.getPathPatterns().stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > properties.getMaxKeyLength()) {
+            writeError(response, ErrorCode.INVALID_IDEMPOTENCY_KEY);
+            return;
+        }
+        byte[] body = request.getInputStream().readNBytes(properties.getMaxBodyBytes() + 1);
+        if (body.length > properties.getMaxBodyBytes()) {
+            writeError(response, ErrorCode.IDEMPOTENCY_PAYLOAD_TOO_LARGE);
+            return;
+        }
+
+        String key = request.getMethod() + " " + request.getRequestURI() + " " + idempotencyKey;
+        String fingerprint = fingerprint(request, body);
+        StoredResponse existing;
+        try {
+            existing = store.reserve(key, fingerprint);
+        } catch (BusinessException e) {
+            // 처리 중 선점으로 저장소가 가득 참
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            writeError(response, e.getErrorCode());
+            return;
+        }
+        if (existing != null) {
+            if (!existing.fingerprint().equals(fingerprint)) {
+                writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            } else if (existing.isInProgress()) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            } else {
+                replay(response, existing);
+            }
+            return;
+        }
+
+        // 바깥 필터가 이미 붙인 헤더는 이 요청의 응답이 아니므로 저장 대상에서 뺀다
+        Set<String> outerHeaders = new HashSet<>();
+        response.getHeaderNames().forEach(name -> outerHeaders.add(name.toLowerCase()));
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), responseWrapper);
+            int status = responseWrapper.getStatus();
+            byte[] responseBody = responseWrapper.getContentAsByteArray();
+            // 5xx 와 일시적인 4xx 는 저장하지 않고 재시도를 허용
+            if (status < 500 && !TRANSIENT_STATUSES.contains(status)
+                    && responseBody.length <= properties.getMaxBodyBytes()) {
+                store.complete(key, new StoredResponse(fingerprint, status, responseWrapper.getContentType(),
+                        storedHeaders(responseWrapper, outerHeaders), responseBody,
+                        Instant.now().plus(properties.getTtl())));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                store.release(key);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        stored.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null && stored.body().length > 0) {
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private Map<String, List<String>> storedHeaders(HttpServletResponse response, Set<String> outerHeaders) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            String lowerName = name.toLowerCase();
+            if (!UNSTORED_HEADERS.contains(lowerName) && !outerHeaders.contains(lowerName)) {
+                headers.putIfAbsent(name, List.copyOf(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        errorResponseWriter.write(response, errorCode);
+    }
+
+    private String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 지문 계산을 위해 미리 읽은 본문을 컨트롤러에 다시 제공
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.elice.sdz.global.idempotency;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "idempotency_record",
+        indexes = @Index(name = "idx_idempotency_expires_at", columnList = "expires_at"))
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 300)
+    private String idempotencyKey; // 메서드 + 경로 + Idempotency-Key
+
+    @Column(name = "fingerprint", length = 64, nullable = false)
+    private String fingerprint;    // 요청 본문 해시
+
+    @Column(name = "http_status", nullable = false)
+    private int httpStatus;        // 0 이면 처리 중
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "headers", length = 2000)
+    private String headers;        // 재요청에 돌려줄 응답 헤더 ("이름: 값" 줄 단위)
+
+    @Lob
+    @Column(name = "body")
+    private byte[] body;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -0,0 +1,13 @@
+package com.elice.sdz.global.idempotency;
+
+public interface IdempotencyStore {
+
+    // 키를 선점한다. 선점에 성공하면 null, 이미 있으면 기존 상태(처리 중 또는 완료된 응답)를 반환
+    StoredResponse reserve(String key, String fingerprint);
+
+    // 처리 완료된 응답 저장
+    void complete(String key, StoredResponse response);
+
+    // 처리 실패(5xx/예외) 시 선점 해제 -> 클라이언트가 같은 키로 재시도 가능
+    void release(String key);
+}
@@ -0,0 +1,94 @@
+package com.elice.sdz.global.idempotency;
+
+import com.elice.sdz.global.exception.BusinessException;
+import com.elice.sdz.global.exception.ErrorCode;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 크기 제한 + TTL 메모리 저장소
+// - 처리 중 선점은 짧은 임대 시간(inProgressTimeout) 동안만 유효 -> 처리 중 인스턴스가 죽어도 재시도 가능
+// - 크기 초과 시 오래된 완료/만료 항목만 제거한다. 처리 중 선점을 지우면 같은 키의 재시도가 중복 실행되므로
+//   처리 중 항목만 가득 찬 경우에는 새 선점을 거절(429)한다
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Duration inProgressTimeout;
+    private final int maxEntries;
+    private final Map<String, StoredResponse> entries = new LinkedHashMap<>();
+
+    public InMemoryIdempotencyStore(Duration inProgressTimeout, int maxEntries) {
+        this.inProgressTimeout = inProgressTimeout;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public synchronized StoredResponse reserve(String key, String fingerprint) {
+        Instant now = Instant.now();
+        evictExpired(now);
+        StoredResponse existing = entries.get(key);
+        if (existing != null && !existing.isExpired(now)) {
+            return existing;
+        }
+        entries.remove(key);
+        if (!makeRoom(now)) {
+            throw new BusinessException(ErrorCode.SERVER_OVERLOADED);
+        }
+        entries.put(key, StoredResponse.inProgress(fingerprint, now.plus(inProgressTimeout)));
+        return null;
+    }
+
+    @Override
+    public synchronized void complete(String key, StoredResponse response) {
+        entries.remove(key);
+        if (makeRoom(Instant.now())) {
+            entries.put(key, response);
+        }
+    }
+
+    @Override
+    public synchronized void release(String key) {
+        entries.remove(key);
+    }
+
+    // 외부 저장소에서 읽어온 완료 응답을 캐시 (자리가 없으면 캐시하지 않음)
+    public synchronized void cache(String key, StoredResponse response) {
+        entries.remove(key);
+        if (makeRoom(Instant.now())) {
+            entries.put(key, response);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // 가장 오래된 완료/만료 항목 하나를 제거해 자리를 만든다 (처리 중 선점은 건너뜀)
+    private boolean makeRoom(Instant now) {
+        if (entries.size() < maxEntries) {
+            return true;
+        }
+        Iterator<StoredResponse> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            StoredResponse candidate = iterator.next();
+            if (!candidate.isInProgress() || candidate.isExpired(now)) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 앞쪽(오래된 항목)부터 만료된 항목을 정리 (만료 시각 순서가 아닐 수 있으므로 조회 시에도 만료를 확인)
+    private void evictExpired(Instant now) {
+        Iterator<StoredResponse> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (!iterator.next().isExpired(now)) {
+                break;
+            }
+            iterator.remove();
+        }
+    }
+}
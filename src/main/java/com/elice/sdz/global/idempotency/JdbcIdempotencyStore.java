@@ -0,0 +1,134 @@
+package com.elice.sdz.global.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// DB(idempotency_record) 에 저장해 여러 인스턴스/재시작 간에도 중복 요청을 막는 저장소
+// 완료된 응답은 메모리에도 캐시해 재요청 시 DB 조회를 줄인다
+// 처리 중 행은 짧은 임대 시간만 갖고, 응답이 저장될 때 전체 TTL 로 늘어난다
+// (처리 중 인스턴스가 죽으면 임대가 끝난 뒤 같은 키로 재시도 가능)
+@Slf4j
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO idempotency_record (idempotency_key, fingerprint, http_status, expires_at) VALUES (?, ?, 0, ?)";
+    private static final String SELECT_SQL =
+            "SELECT fingerprint, http_status, content_type, headers, body, expires_at FROM idempotency_record " +
+            "WHERE idempotency_key = ?";
+    private static final String COMPLETE_SQL =
+            "UPDATE idempotency_record SET http_status = ?, content_type = ?, headers = ?, body = ?, expires_at = ? " +
+            "WHERE idempotency_key = ?";
+    private static final String DELETE_SQL = "DELETE FROM idempotency_record WHERE idempotency_key = ?";
+    private static final String DELETE_EXPIRED_KEY_SQL =
+            "DELETE FROM idempotency_record WHERE idempotency_key = ? AND expires_at < ?";
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM idempotency_record WHERE expires_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InMemoryIdempotencyStore cache;
+    private final Duration inProgressTimeout;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, InMemoryIdempotencyStore cache, Duration inProgressTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = cache;
+        this.inProgressTimeout = inProgressTimeout;
+    }
+
+    @Override
+    public StoredResponse reserve(String key, String fingerprint) {
+        StoredResponse cached = cache.reserve(key, fingerprint);
+        if (cached != null) {
+            return cached;
+        }
+        Instant expiresAt = Instant.now().plus(inProgressTimeout);
+        try {
+            jdbcTemplate.update(INSERT_SQL, key, fingerprint, Timestamp.from(expiresAt));
+            return null;
+        } catch (RuntimeException e) {
+            // 메모리 선점을 남기면 임대가 끝날 때까지 같은 키의 재시도가 409 를 받는다
+            cache.release(key);
+            if (!(e instanceof DuplicateKeyException)) {
+                throw e;
+            }
+            // 다른 인스턴스가 먼저 선점했거나 이미 처리된 키
+            Instant now = Instant.now();
+            StoredResponse existing = find(key);
+            if (existing == null || existing.isExpired(now)) {
+                // 만료된 행만 지움 (동시에 재시도한 다른 요청의 새 선점은 지우지 않음)
+                jdbcTemplate.update(DELETE_EXPIRED_KEY_SQL, key, Timestamp.from(now));
+                return reserve(key, fingerprint);
+            }
+            if (!existing.isInProgress()) {
+                cache.cache(key, existing);
+            }
+            return existing;
+        }
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        cache.complete(key, response);
+        jdbcTemplate.update(COMPLETE_SQL, response.status(), response.contentType(), encodeHeaders(response.headers()),
+                response.body(), Timestamp.from(response.expiresAt()), key);
+    }
+
+    @Override
+    public void release(String key) {
+        cache.release(key);
+        jdbcTemplate.update(DELETE_SQL, key);
+    }
+
+    @Scheduled(fixedDelayString = "${sdz.idempotency.cleanup-interval:PT10M}")
+    public void deleteExpired() {
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.from(Instant.now()));
+        if (deleted > 0) {
+            log.debug("Deleted {} expired idempotency records", deleted);
+        }
+    }
+
+    private StoredResponse find(String key) {
+        List<StoredResponse> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new StoredResponse(
+                rs.getString("fingerprint"),
+                rs.getInt("http_status"),
+                rs.getString("content_type"),
+                decodeHeaders(rs.getString("headers")),
+                rs.getBytes("body"),
+                rs.getTimestamp("expires_at").toInstant()), key);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    // "이름: 값" 을 한 줄씩 (HTTP 헤더 값에는 줄바꿈이 없다)
+    static String encodeHeaders(Map<String, List<String>> headers) {
+        if (headers.isEmpty()) {
+            return null;
+        }
+        StringBuilder encoded = new StringBuilder();
+        headers.forEach((name, values) -> values.forEach(value ->
+                encoded.append(name).append(": ").append(value).append('\n')));
+        return encoded.toString();
+    }
+
+    static Map<String, List<String>> decodeHeaders(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String line : encoded.split("\n")) {
+            int separator = line.indexOf(": ");
+            if (separator > 0) {
+                headers.computeIfAbsent(line.substring(0, separator), name -> new ArrayList<>())
+                        .add(line.substring(separator + 2));
+            }
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,27 @@
+package com.elice.sdz.global.idempotency;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+// 멱등성 키로 저장된 처리 상태/응답 (status == 0 이면 처리 중)
+// headers 는 Location 처럼 재요청에도 그대로 돌려줘야 하는 응답 헤더
+public record StoredResponse(String fingerprint, int status, String contentType, Map<String, List<String>> headers,
+                             byte[] body, Instant expiresAt) {
+
+    public StoredResponse {
+        headers = headers == null ? Map.of() : Map.copyOf(headers);
+    }
+
+    public static StoredResponse inProgress(String fingerprint, Instant expiresAt) {
+        return new StoredResponse(fingerprint, 0, null, null, null, expiresAt);
+    }
+
+    public boolean isInProgress() {
+        return status == 0;
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,81 @@
+package com.elice.sdz.global.ratelimit;
+
+import com.elice.sdz.global.config.RateLimitProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 응답 지연 기반 동시 처리 한도 (Gradient 방식)
+// - 장기 평균 지연(longRtt) 대비 최근 지연(shortRtt)이 늘어나면 한도를 줄이고, 여유가 있으면 sqrt(limit) 만큼 늘린다
+// - 한도를 넘는 요청은 큐에 쌓지 않고 바로 거절해서 커넥션 풀 앞에 대기열이 생기지 않게 한다
+public class GradientConcurrencyLimiter {
+
+    private static final double LONG_WINDOW = 600;  // 장기 평균에 반영되는 샘플 수
+    private static final double SHORT_WINDOW = 10;  // 단기 평균에 반영되는 샘플 수
+
+    private final RateLimitProperties.Concurrency properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private double longRtt;
+    private double shortRtt;
+
+    public GradientConcurrencyLimiter(RateLimitProperties.Concurrency properties) {
+        this.properties = properties;
+        this.limit = properties.getInitialLimit();
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // 처리가 끝난 요청을 반환하고 지연 시간을 한도 계산에 반영
+    public void release(long rttNanos) {
+        int inFlightAtStart = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightAtStart);
+    }
+
+    // 지연 측정 없이 반환 (비동기 응답 등)
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart) {
+        double rtt = rttNanos;
+        if (longRtt == 0) {
+            longRtt = rtt;
+            shortRtt = rtt;
+            return;
+        }
+        longRtt += (rtt - longRtt) / LONG_WINDOW;
+        shortRtt += (rtt - shortRtt) / SHORT_WINDOW;
+
+        // 부하가 오래 지속되면 장기 평균도 끌려 올라가므로, 지연이 회복되면 빠르게 되돌린다
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        // 한도를 다 쓰지 않는 상태에서는 지연 정보만으로 한도를 키우지 않는다
+        if (inFlightAtStart < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, properties.getTolerance() * longRtt / shortRtt));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - properties.getSmoothing()) + newLimit * properties.getSmoothing();
+        limit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), newLimit));
+    }
+}
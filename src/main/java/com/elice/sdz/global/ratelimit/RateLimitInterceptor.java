@@ -0,0 +1,109 @@
+package com.elice.sdz.global.ratelimit;
+
+import com.elice.sdz.global.config.RateLimitProperties;
+import com.elice.sdz.global.exception.ErrorCode;
+import com.elice.sdz.global.exception.ErrorResponseWriter;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.security.Principal;
+
+// 컨트롤러 실행 전에 유입 제어
+// 1. 클라이언트 + 엔드포인트별 토큰 버킷 초과 시 429 RATE_LIMIT_EXCEEDED
+// 2. 동시 처리 한도 초과 시 429 SERVER_OVERLOADED (커넥션 풀에서 대기하기 전에 거절)
+public class RateLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".start";
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final GradientConcurrencyLimiter concurrencyLimiter;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    public RateLimitInterceptor(RateLimitProperties properties, ErrorResponseWriter errorResponseWriter) {
+        this.properties = properties;
+        this.rateLimiter = new RateLimiter(properties);
+        this.concurrencyLimiter = new GradientConcurrencyLimiter(properties.getConcurrency());
+        this.errorResponseWriter = errorResponseWriter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        // 비동기 응답의 재디스패치는 이미 검사를 통과한 요청
+        if (!properties.isEnabled() || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        long retryAfter = rateLimiter.tryAcquire(clientKey(request), endpointKey(request));
+        if (retryAfter > 0) {
+            reject(response, ErrorCode.RATE_LIMIT_EXCEEDED, retryAfter);
+            return false;
+        }
+        if (properties.getConcurrency().isEnabled()) {
+            if (!concurrencyLimiter.tryAcquire()) {
+                reject(response, ErrorCode.SERVER_OVERLOADED, 1);
+                return false;
+            }
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (start != null) {
+            request.removeAttribute(START_ATTRIBUTE);
+            concurrencyLimiter.release(System.nanoTime() - (Long) start);
+        }
+    }
+
+    // 스트리밍/SSE 처럼 요청 스레드를 반환하는 응답은 오래 열려 있어도 동시 처리 한도를 점유하지 않게 한다
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        if (request.getAttribute(START_ATTRIBUTE) != null) {
+            request.removeAttribute(START_ATTRIBUTE);
+            concurrencyLimiter.releaseWithoutSample();
+        }
+    }
+
+    public GradientConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    // 로그인 사용자는 사용자 단위, 그 외에는 IP 단위
+    private String clientKey(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+        if (properties.isTrustForwardedFor()) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                int comma = forwarded.indexOf(',');
+                return "ip:" + (comma < 0 ? forwarded : forwarded.substring(0, comma)).trim();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    // 경로 변수 값마다 버킷이 생기지 않도록 매핑된 패턴 기준으로 묶는다
+    private String endpointKey(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    private void reject(HttpServletResponse response, ErrorCode errorCode, long retryAfterSeconds)
+            throws IOException {
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        errorResponseWriter.write(response, errorCode);
+    }
+}
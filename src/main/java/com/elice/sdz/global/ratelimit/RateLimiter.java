@@ -0,0 +1,73 @@
+package com.elice.sdz.global.ratelimit;
+
+import com.elice.sdz.global.config.RateLimitProperties;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 클라이언트(사용자/IP) + 엔드포인트 별 토큰 버킷
+// - 오래 쓰이지 않은 버킷은 새 버킷을 만들기 전에(맵 갱신 함수 밖에서) 정리한다
+// - 정리 후에도 활성 버킷이 가득 차 있으면 새 클라이언트는 엔드포인트별 공용 버킷을 함께 쓴다
+//   (기존 클라이언트의 한도는 그대로 유지)
+public class RateLimiter {
+
+    private static final int SWEEP_EVERY = 1024;
+    private static final long MIN_SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final String OVERFLOW_CLIENT = "*";
+
+    private final RateLimitProperties properties;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger creations = new AtomicInteger();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime() - MIN_SWEEP_INTERVAL_NANOS);
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+    }
+
+    // 허용되면 0, 거절되면 재시도까지 남은 초 (최소 1)
+    public long tryAcquire(String client, String endpoint) {
+        long now = System.nanoTime();
+        String key = client + '|' + endpoint;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = findOrCreate(key, endpoint, now);
+        }
+        if (bucket.tryConsume(now)) {
+            return 0;
+        }
+        return Math.max(1, bucket.secondsUntilAvailable(now));
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private TokenBucket findOrCreate(String key, String endpoint, long now) {
+        boolean full = buckets.size() >= properties.getMaxBuckets();
+        if (full || creations.incrementAndGet() % SWEEP_EVERY == 0) {
+            sweep(now);
+            full = buckets.size() >= properties.getMaxBuckets();
+        }
+        String bucketKey = full ? OVERFLOW_CLIENT + '|' + endpoint : key;
+        return buckets.computeIfAbsent(bucketKey, ignored -> newBucket(endpoint, now));
+    }
+
+    private TokenBucket newBucket(String endpoint, long now) {
+        RateLimitProperties.Limit limit = properties.getEndpoints().getOrDefault(endpoint, properties.getDefaultLimit());
+        return new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now);
+    }
+
+    // 오래 쓰이지 않은 버킷만 정리 (다시 만들면 가득 찬 상태이므로 결과는 동일)
+    // 맵이 가득 찬 동안 새 클라이언트마다 전체를 훑지 않도록 한 스레드가 최소 간격으로만 실행
+    private void sweep(long now) {
+        long last = lastSweep.get();
+        if (now - last < MIN_SWEEP_INTERVAL_NANOS || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        long idleNanos = properties.getBucketIdleTimeout().toNanos();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+    }
+}
@@ -0,0 +1,47 @@
+package com.elice.sdz.global.ratelimit;
+
+// 토큰 버킷: capacity 만큼 버스트를 허용하고 초당 refillPerSecond 만큼 다시 채운다
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    public synchronized boolean tryConsume(long nowNanos) {
+        refill(nowNanos);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    // 토큰 하나가 다시 생길 때까지 남은 시간(초, 올림)
+    public synchronized long secondsUntilAvailable(long nowNanos) {
+        refill(nowNanos);
+        if (tokens >= 1 || refillPerNano <= 0) {
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerNano / 1_000_000_000d);
+    }
+
+    public synchronized boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - lastRefillNanos > idleNanos;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
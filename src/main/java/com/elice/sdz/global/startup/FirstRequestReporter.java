@@ -0,0 +1,50 @@
+package com.elice.sdz.global.startup;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// JVM 시작부터 준비 완료/첫 요청 응답까지 걸린 시간을 기록 (오토스케일 시 새 인스턴스가 트래픽을 받기까지의 시간)
+@Slf4j
+public class FirstRequestReporter extends OncePerRequestFilter implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final AtomicBoolean reported = new AtomicBoolean();
+    private volatile long readyMillis = -1;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        readyMillis = uptimeMillis();
+        log.info("Application ready {} ms after JVM start", readyMillis);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!reported.get() && reported.compareAndSet(false, true)) {
+                log.info("First request ({} {}) served {} ms after JVM start (ready at {} ms)",
+                        request.getMethod(), request.getRequestURI(), uptimeMillis(), readyMillis);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return reported.get();
+    }
+
+    private static long uptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+}
@@ -0,0 +1,74 @@
+package com.elice.sdz.global.startup;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+// 지정한 패키지의 빈만 처음 사용할 때 생성하도록 표시 (전체 lazy-initialization 은 첫 요청 지연이 커서 쓰지 않는다)
+// @Bean 메서드로 등록된 빈은 선언한 설정 클래스 기준으로 판단한다
+public class SelectiveLazyInitPostProcessor implements BeanFactoryPostProcessor, Ordered {
+
+    private final List<String> prefixes;
+
+    public SelectiveLazyInitPostProcessor(List<String> prefixes) {
+        this.prefixes = prefixes;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (definition.isAbstract() || !definition.isSingleton() || hasExplicitLazyInit(definition)) {
+                continue;
+            }
+            if (!matches(definition.getBeanClassName()) && !matches(declaringClassName(beanFactory, definition))) {
+                continue;
+            }
+            // 생성 시점 자체가 의미 있는 빈은 그대로 둔다
+            Class<?> type = beanFactory.getType(beanName, false);
+            if (type != null && (BeanPostProcessor.class.isAssignableFrom(type)
+                    || BeanFactoryPostProcessor.class.isAssignableFrom(type)
+                    || SmartInitializingSingleton.class.isAssignableFrom(type)
+                    || SmartLifecycle.class.isAssignableFrom(type))) {
+                continue;
+            }
+            definition.setLazyInit(true);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    private boolean hasExplicitLazyInit(BeanDefinition definition) {
+        return definition instanceof AbstractBeanDefinition abstractDefinition && abstractDefinition.getLazyInit() != null;
+    }
+
+    private String declaringClassName(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String factoryBeanName = definition.getFactoryBeanName();
+        if (factoryBeanName == null || !beanFactory.containsBeanDefinition(factoryBeanName)) {
+            return null;
+        }
+        return beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName();
+    }
+
+    private boolean matches(String className) {
+        if (className == null) {
+            return false;
+        }
+        for (String prefix : prefixes) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,48 @@
+package com.elice.sdz.global.tracing;
+
+import com.elice.sdz.global.ratelimit.TokenBucket;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+import java.util.List;
+
+// 루트 스팬을 초당 일정 개수까지만 샘플링 (트래픽이 늘어도 수집 비용이 일정)
+// 샘플링되지 않은 트레이스는 tail 샘플링이 켜져 있으면 기록만 하고(RECORD_ONLY), 꺼져 있으면 버린다
+public class RateLimitingSampler implements Sampler {
+
+    private static final SamplingResult SAMPLE = SamplingResult.create(SamplingDecision.RECORD_AND_SAMPLE);
+    private static final SamplingResult RECORD_ONLY = SamplingResult.create(SamplingDecision.RECORD_ONLY);
+    private static final SamplingResult DROP = SamplingResult.create(SamplingDecision.DROP);
+
+    private final TokenBucket bucket;
+    private final SamplingResult notSampled;
+    private final double ratePerSecond;
+
+    public RateLimitingSampler(double ratePerSecond, boolean recordUnsampled) {
+        this.ratePerSecond = ratePerSecond;
+        this.bucket = new TokenBucket((int) Math.max(1, Math.ceil(ratePerSecond)), ratePerSecond, System.nanoTime());
+        this.notSampled = recordUnsampled ? RECORD_ONLY : DROP;
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+                                       Attributes attributes, List<LinkData> parentLinks) {
+        SpanContext parent = Span.fromContext(parentContext).getSpanContext();
+        if (parent.isValid()) {
+            return parent.isSampled() ? SAMPLE : notSampled;
+        }
+        return ratePerSecond > 0 && bucket.tryConsume(System.nanoTime()) ? SAMPLE : notSampled;
+    }
+
+    @Override
+    public String getDescription() {
+        return "RateLimitingSampler{" + ratePerSecond + "/s}";
+    }
+}
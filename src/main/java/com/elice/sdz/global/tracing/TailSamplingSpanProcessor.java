@@ -0,0 +1,132 @@
+package com.elice.sdz.global.tracing;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 헤드 샘플링에서 빠진(RECORD_ONLY) 스팬을 트레이스별로 모아 두었다가
+// 로컬 루트 스팬이 끝날 때 느린 트레이스면 통째로 내보내고, 아니면 버린다.
+// 샘플링된 스팬은 기본 BatchSpanProcessor 가 처리하므로 여기서는 무시한다.
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private final SpanProcessor delegate;
+    private final long slowThresholdNanos;
+    private final int maxTraces;
+    private final int maxSpansPerTrace;
+    private final long maxTraceAgeNanos;
+    private final Map<String, PendingTrace> pending = new ConcurrentHashMap<>();
+    private final AtomicLong droppedSpans = new AtomicLong();
+
+    public TailSamplingSpanProcessor(SpanProcessor delegate, long slowThresholdNanos, int maxTraces,
+                                     int maxSpansPerTrace, long maxTraceAgeNanos) {
+        this.delegate = delegate;
+        this.slowThresholdNanos = slowThresholdNanos;
+        this.maxTraces = maxTraces;
+        this.maxSpansPerTrace = maxSpansPerTrace;
+        this.maxTraceAgeNanos = maxTraceAgeNanos;
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        SpanContext context = span.getSpanContext();
+        if (context.isSampled()) {
+            return;
+        }
+        String traceId = context.getTraceId();
+        SpanContext parent = span.getParentSpanContext();
+        if (parent.isValid() && !parent.isRemote()) {
+            buffer(traceId, span);
+            return;
+        }
+
+        // 로컬 루트 스팬 종료: 수집 여부 결정
+        PendingTrace trace = pending.remove(traceId);
+        if (span.getLatencyNanos() < slowThresholdNanos) {
+            return;
+        }
+        if (trace != null) {
+            for (ReadableSpan child : trace.spans) {
+                delegate.onEnd(child);
+            }
+        }
+        delegate.onEnd(span);
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        pending.clear();
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    public long getDroppedSpans() {
+        return droppedSpans.get();
+    }
+
+    public int getPendingTraces() {
+        return pending.size();
+    }
+
+    private void buffer(String traceId, ReadableSpan span) {
+        long now = System.nanoTime();
+        if (!pending.containsKey(traceId) && pending.size() >= maxTraces) {
+            evictStale(now);
+            if (pending.size() >= maxTraces) {
+                droppedSpans.incrementAndGet();
+                return;
+            }
+        }
+        pending.compute(traceId, (key, trace) -> {
+            if (trace == null) {
+                trace = new PendingTrace(now);
+            }
+            if (trace.spans.size() < maxSpansPerTrace) {
+                trace.spans.add(span);
+            } else {
+                droppedSpans.incrementAndGet();
+            }
+            return trace;
+        });
+    }
+
+    // 루트 스팬이 이 프로세스에서 끝나지 않는 트레이스(루트 종료 후 끝난 비동기 스팬 등) 정리
+    private void evictStale(long now) {
+        pending.values().removeIf(trace -> now - trace.createdNanos > maxTraceAgeNanos);
+    }
+
+    private static final class PendingTrace {
+        private final long createdNanos;
+        private final List<ReadableSpan> spans = new ArrayList<>();
+
+        private PendingTrace(long createdNanos) {
+            this.createdNanos = createdNanos;
+        }
+    }
+}
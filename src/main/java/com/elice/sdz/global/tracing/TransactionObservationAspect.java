@@ -0,0 +1,44 @@
+package com.elice.sdz.global.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+// @Transactional 서비스 메서드마다 스팬을 만든다 (커밋까지 포함되도록 트랜잭션 바깥에서 감싼다)
+@Aspect
+@Order(Ordered.LOWEST_PRECEDENCE - 100)
+public class TransactionObservationAspect {
+
+    public static final String OBSERVATION_NAME = "sdz.service.transaction";
+
+    private final ObservationRegistry observationRegistry;
+
+    public TransactionObservationAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("execution(public * com.elice.sdz..*(..)) && "
+            + "(@annotation(org.springframework.transaction.annotation.Transactional) || "
+            + "@within(org.springframework.transaction.annotation.Transactional))")
+    public Object observe(ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+        Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName(className + "." + methodName)
+                .lowCardinalityKeyValue("class", className)
+                .lowCardinalityKeyValue("method", methodName)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.elice.sdz.global.web;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+// @VersionedCollection 이 붙은 엔티티가 변경되면 해당 컬렉션 버전을 올린다
+public class CollectionVersionListener {
+
+    private static final ClassValue<String[]> COLLECTIONS = new ClassValue<>() {
+        @Override
+        protected String[] computeValue(Class<?> type) {
+            VersionedCollection annotation = type.getAnnotation(VersionedCollection.class);
+            return annotation == null ? new String[0] : annotation.value();
+        }
+    };
+
+    private final CollectionVersions collectionVersions;
+
+    public CollectionVersionListener(CollectionVersions collectionVersions) {
+        this.collectionVersions = collectionVersions;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        for (String collection : COLLECTIONS.get(entity.getClass())) {
+            collectionVersions.bump(collection);
+        }
+    }
+}
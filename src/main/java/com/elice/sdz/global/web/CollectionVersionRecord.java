@@ -0,0 +1,27 @@
+package com.elice.sdz.global.web;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// CollectionVersions 가 읽고 쓰는 공유 워터마크 (JDBC 로만 접근, 테이블 생성/검증용 매핑)
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "collection_version")
+public class CollectionVersionRecord {
+
+    @Id
+    @Column(name = "collection_name", length = 50)
+    private String collectionName;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "last_modified", nullable = false)
+    private Instant lastModified;
+}
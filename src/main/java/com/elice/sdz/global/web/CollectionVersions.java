@@ -0,0 +1,150 @@
+package com.elice.sdz.global.web;
+
+import com.elice.sdz.global.config.ConditionalGetProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 컬렉션별 변경 워터마크 (버전 + 마지막 변경 시각)
+// 응답 본문을 해시하지 않고 이 값만으로 약한 ETag 를 만든다.
+// 워터마크는 collection_version 테이블에 두어 모든 인스턴스가 공유한다.
+// 다른 인스턴스의 변경은 최대 refreshInterval 뒤에 보이고, 이 인스턴스의 변경은 바로 보인다.
+@Slf4j
+@Component
+public class CollectionVersions {
+
+    private static final String SELECT_SQL =
+            "SELECT collection_name, version, last_modified FROM collection_version";
+    private static final String UPDATE_SQL =
+            "UPDATE collection_version SET version = version + 1, last_modified = ? WHERE collection_name = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO collection_version (collection_name, version, last_modified) VALUES (?, 1, ?)";
+
+    private static final Watermark INITIAL = new Watermark(0, Instant.EPOCH);
+
+    private final JdbcTemplate jdbcTemplate;
+    // 엔티티 리스너가 EntityManagerFactory 생성 중에 이 객체를 필요로 하므로 트랜잭션 매니저는 처음 쓸 때 조회
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+    private final long refreshNanos;
+    private volatile Snapshot snapshot;
+
+    public CollectionVersions(JdbcTemplate jdbcTemplate,
+                              ObjectProvider<PlatformTransactionManager> transactionManager,
+                              ConditionalGetProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+        this.refreshNanos = properties.getVersionRefreshInterval().toNanos();
+    }
+
+    public Watermark current(String collection) {
+        return watermarks().getOrDefault(collection, INITIAL);
+    }
+
+    public String etag(String collection) {
+        return "W/\"" + collection + "-" + current(collection).version() + "\"";
+    }
+
+    // 커밋 이후에 버전을 올려 커밋 전 데이터가 새 ETag 로 응답되지 않도록 한다
+    // 한 트랜잭션에서 여러 번 호출돼도 컬렉션마다 한 번만 올린다
+    public void bump(String collection) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(Set.of(collection));
+            return;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingBumps pending && pending.owner() == this) {
+                pending.collections.add(collection);
+                return;
+            }
+        }
+        PendingBumps pending = new PendingBumps();
+        pending.collections.add(collection);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+
+    private Map<String, Watermark> watermarks() {
+        Snapshot current = snapshot;
+        if (current != null && System.nanoTime() - current.loadedAt() < refreshNanos) {
+            return current.watermarks();
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current != null && System.nanoTime() - current.loadedAt() < refreshNanos) {
+                return current.watermarks();
+            }
+            long loadedAt = System.nanoTime();
+            Map<String, Watermark> loaded = new HashMap<>();
+            jdbcTemplate.query(SELECT_SQL, rs -> {
+                loaded.put(rs.getString("collection_name"),
+                        new Watermark(rs.getLong("version"), rs.getTimestamp("last_modified").toInstant()));
+            });
+            snapshot = new Snapshot(loadedAt, loaded);
+            return loaded;
+        }
+    }
+
+    // 원래 트랜잭션은 이미 끝났으므로 별도 트랜잭션에서 갱신 (행 잠금 순서를 맞추려 이름순)
+    private void increment(Set<String> collections) {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager.getObject());
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                Timestamp now = Timestamp.from(Instant.now());
+                for (String collection : new TreeSet<>(collections)) {
+                    if (jdbcTemplate.update(UPDATE_SQL, now, collection) > 0) {
+                        continue;
+                    }
+                    try {
+                        jdbcTemplate.update(INSERT_SQL, collection, now);
+                    } catch (DuplicateKeyException e) {
+                        // 다른 인스턴스가 먼저 행을 만들었음
+                        jdbcTemplate.update(UPDATE_SQL, now, collection);
+                    }
+                }
+            });
+        } catch (DataAccessException e) {
+            // 데이터는 이미 커밋됐으므로 호출자를 실패시키지 않는다
+            log.warn("Failed to bump collection versions {}", collections, e);
+        } finally {
+            // 잠금 안에서 비워야 갱신 전에 시작된 조회가 옛 값을 다시 저장하지 않는다
+            synchronized (this) {
+                snapshot = null;
+            }
+        }
+    }
+
+    private final class PendingBumps implements TransactionSynchronization {
+
+        private final Set<String> collections = new TreeSet<>();
+
+        private CollectionVersions owner() {
+            return CollectionVersions.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            increment(collections);
+        }
+    }
+
+    private record Snapshot(long loadedAt, Map<String, Watermark> watermarks) {
+    }
+
+    public record Watermark(long version, Instant lastModified) {
+    }
+}
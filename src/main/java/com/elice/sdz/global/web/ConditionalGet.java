@@ -0,0 +1,13 @@
+package com.elice.sdz.global.web;
+
+import java.lang.annotation.*;
+
+// 컬렉션 버전(워터마크) 기반 ETag / 304 처리를 적용할 조회 API에 붙인다
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConditionalGet {
+
+    // CollectionVersions 에 등록된 컬렉션 이름 (예: "orders")
+    String value();
+}
@@ -0,0 +1,78 @@
+package com.elice.sdz.global.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Enumeration;
+
+// @ConditionalGet 조회 API 에 ETag/Last-Modified 를 붙이고,
+// 클라이언트가 가진 버전이 최신이면 컨트롤러(쿼리)를 실행하지 않고 304 를 반환
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final CollectionVersions collectionVersions;
+
+    public ConditionalGetInterceptor(CollectionVersions collectionVersions) {
+        this.collectionVersions = collectionVersions;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+
+        // 쿼리 전에 버전을 읽어야 그 사이 커밋된 변경을 놓치지 않는다
+        String collection = conditionalGet.value();
+        CollectionVersions.Watermark watermark = collectionVersions.current(collection);
+        String etag = collectionVersions.etag(collection);
+        long lastModified = watermark.lastModified().toEpochMilli() / 1000 * 1000;
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        if (isNotModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        Enumeration<String> ifNoneMatch = request.getHeaders(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ifNoneMatch.hasMoreElements()) {
+            String opaqueTag = stripWeak(etag);
+            while (ifNoneMatch.hasMoreElements()) {
+                for (String candidate : ifNoneMatch.nextElement().split(",")) {
+                    String tag = candidate.trim();
+                    if (tag.equals("*") || stripWeak(tag).equals(opaqueTag)) {
+                        return true;
+                    }
+                }
+            }
+            return false; // If-None-Match 가 있으면 If-Modified-Since 는 무시 (RFC 9110)
+        }
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            return ifModifiedSince != -1 && lastModified <= ifModifiedSince;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
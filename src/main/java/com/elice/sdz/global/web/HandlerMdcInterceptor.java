@@ -0,0 +1,26 @@
+package com.elice.sdz.global.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// 요청을 처리하는 컨트롤러 메서드를 MDC 에 기록 (느린 쿼리 로그 등에서 호출 위치 확인용)
+public class HandlerMdcInterceptor implements HandlerInterceptor {
+
+    public static final String HANDLER_KEY = "handler";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            MDC.put(HANDLER_KEY, handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        MDC.remove(HANDLER_KEY);
+    }
+}
@@ -0,0 +1,12 @@
+package com.elice.sdz.global.web;
+
+import java.lang.annotation.*;
+
+// 엔티티가 변경되면 버전이 올라갈 컬렉션 이름 (CollectionVersionListener 와 함께 사용)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface VersionedCollection {
+
+    String[] value();
+}
@@ -1,7 +1,10 @@
 package com.elice.sdz.image.entity;
 
+import com.elice.sdz.global.web.CollectionVersionListener;
+import com.elice.sdz.global.web.VersionedCollection;
 import com.elice.sdz.inquiry.entity.Inquiry;
 import com.elice.sdz.product.entity.Product;
+import com.elice.sdz.product.event.ProductDetailChangeListener;
 import com.elice.sdz.review.entity.Review;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -15,6 +18,8 @@ import java.time.Instant;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "image")
+@EntityListeners({ProductDetailChangeListener.class, CollectionVersionListener.class})
+@VersionedCollection("products")
 public class Image {
 
     @Id
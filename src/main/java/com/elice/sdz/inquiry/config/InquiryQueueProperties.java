@@ -0,0 +1,20 @@
+package com.elice.sdz.inquiry.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sdz.inquiry.queue")
+public class InquiryQueueProperties {
+    private Duration leaseDuration = Duration.ofMinutes(10);      // 선점 유지 시간 (답변 전에 만료되면 다른 관리자가 가져갈 수 있음)
+    private int defaultPageSize = 20;                             // 대기열 조회 기본 개수
+    private int maxPageSize = 100;                                // 대기열 조회 최대 개수
+    private int claimCandidates = 5;                              // 다음 문의 선점 시 한 번에 조회할 후보 수
+    private int maxClaimRounds = 4;                               // 후보를 모두 뺏겼을 때 다시 조회하는 최대 횟수
+    private Duration pushInterval = Duration.ofSeconds(2);        // 대기 건수 변경 확인 주기
+    private Duration heartbeatInterval = Duration.ofSeconds(15);  // 변경이 없을 때 연결 유지용 주석 전송 주기
+    private Duration subscriberTimeout = Duration.ofMinutes(30);  // SSE 연결 최대 유지 시간 (만료 후 클라이언트가 재연결)
+    private int maxSubscribers = 200;                             // 동시 SSE 구독자 상한
+}
@@ -0,0 +1,71 @@
+package com.elice.sdz.inquiry.controller;
+
+import com.elice.sdz.inquiry.dto.InquiryAnswerRequest;
+import com.elice.sdz.inquiry.dto.InquiryClaim;
+import com.elice.sdz.inquiry.dto.InquiryQueueItem;
+import com.elice.sdz.inquiry.dto.InquiryQueuePage;
+import com.elice.sdz.inquiry.dto.PendingInquiryCount;
+import com.elice.sdz.inquiry.service.InquiryQueueService;
+import com.elice.sdz.inquiry.service.PendingInquiryNotifier;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/admin/inquiries")
+public class InquiryQueueController {
+
+    private final InquiryQueueService inquiryQueueService;
+    private final PendingInquiryNotifier pendingInquiryNotifier;
+
+    public InquiryQueueController(InquiryQueueService inquiryQueueService,
+                                  PendingInquiryNotifier pendingInquiryNotifier) {
+        this.inquiryQueueService = inquiryQueueService;
+        this.pendingInquiryNotifier = pendingInquiryNotifier;
+    }
+
+    @GetMapping("/queue")//답변 대기 문의 조회 (cursor 이후 inquiryId 순)
+    public ResponseEntity<InquiryQueuePage> getQueue(@RequestParam(required = false) String inquiryType,
+                                                     @RequestParam(defaultValue = "0") long cursor,
+                                                     @RequestParam(required = false) Integer size,
+                                                     @RequestParam(defaultValue = "false") boolean includeClaimed) {
+        return ResponseEntity.ok(inquiryQueueService.getQueue(inquiryType, cursor, size, includeClaimed));
+    }
+
+    @GetMapping("/queue/count")//답변 대기 건수
+    public ResponseEntity<PendingInquiryCount> getPendingCount() {
+        return ResponseEntity.ok(pendingInquiryNotifier.currentCount());
+    }
+
+    @GetMapping(value = "/queue/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)//답변 대기 건수 구독 (SSE)
+    public SseEmitter streamPendingCount() {
+        return pendingInquiryNotifier.subscribe();
+    }
+
+    @PostMapping("/queue/claim")//다음 문의 선점 (없으면 204)
+    public ResponseEntity<InquiryQueueItem> claimNext(@RequestParam String adminId,
+                                                      @RequestParam(required = false) String inquiryType) {
+        return inquiryQueueService.claimNext(inquiryType, adminId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @PostMapping("/{inquiryId}/claim")//특정 문의 선점 또는 연장
+    public ResponseEntity<InquiryClaim> claim(@PathVariable Long inquiryId, @RequestParam String adminId) {
+        return ResponseEntity.ok(inquiryQueueService.claim(inquiryId, adminId));
+    }
+
+    @DeleteMapping("/{inquiryId}/claim")//선점 해제
+    public ResponseEntity<Void> release(@PathVariable Long inquiryId, @RequestParam String adminId) {
+        inquiryQueueService.release(inquiryId, adminId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{inquiryId}/answer")//선점한 문의에 답변
+    public ResponseEntity<Void> answer(@PathVariable Long inquiryId, @RequestParam String adminId,
+                                       @RequestBody InquiryAnswerRequest request) {
+        inquiryQueueService.answer(inquiryId, adminId, request.getAnswerContent());
+        return ResponseEntity.noContent().build();
+    }
+}
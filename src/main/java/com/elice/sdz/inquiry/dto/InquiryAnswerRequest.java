@@ -0,0 +1,8 @@
+package com.elice.sdz.inquiry.dto;
+
+import lombok.Data;
+
+@Data
+public class InquiryAnswerRequest {
+    private String answerContent;   // 답변 내용 (최대 500자)
+}
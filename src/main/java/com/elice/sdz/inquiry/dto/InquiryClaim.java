@@ -0,0 +1,6 @@
+package com.elice.sdz.inquiry.dto;
+
+import java.time.Instant;
+
+public record InquiryClaim(Long inquiryId, String claimedBy, Instant claimExpiresAt) {
+}
@@ -0,0 +1,27 @@
+package com.elice.sdz.inquiry.dto;
+
+import com.elice.sdz.inquiry.entity.Inquiry;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema
+public class InquiryDto {
+    private Long inquiryId;               // 문의 ID
+    private Long productId;               // 상품 ID (상품 문의가 아니면 null)
+    private String userId;                // 작성자 ID
+    private String inquiryType;           // 문의 유형
+    private String inquiryTitle;          // 제목
+    private String inquiryContent;        // 내용
+    private Instant regDate;              // 작성일
+    private String answerContent;         // 답변 내용
+    private Instant answerRegDate;        // 답변일
+    private boolean inquirySecret;        // 비밀글 여부
+    private Inquiry.Status inquiryStatus; // 문의 상태
+}
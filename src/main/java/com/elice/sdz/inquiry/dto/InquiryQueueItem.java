@@ -0,0 +1,15 @@
+package com.elice.sdz.inquiry.dto;
+
+import java.time.Instant;
+
+// 대기열 목록 항목. 상품/회원 조인 없이 inquiry 테이블 컬럼만 읽는다
+public record InquiryQueueItem(
+        Long inquiryId,
+        String inquiryType,
+        String inquiryTitle,
+        Long productId,
+        String userId,
+        Instant regDate,
+        String claimedBy,
+        Instant claimExpiresAt) {
+}
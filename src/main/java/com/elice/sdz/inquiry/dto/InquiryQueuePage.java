@@ -0,0 +1,7 @@
+package com.elice.sdz.inquiry.dto;
+
+import java.util.List;
+
+// nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회 (마지막 페이지면 null)
+public record InquiryQueuePage(List<InquiryQueueItem> items, Long nextCursor) {
+}
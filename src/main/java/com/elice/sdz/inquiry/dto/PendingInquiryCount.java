@@ -0,0 +1,7 @@
+package com.elice.sdz.inquiry.dto;
+
+import java.util.Map;
+
+// SSE 로 전달하는 답변 대기 건수 (유형별 + 전체)
+public record PendingInquiryCount(long total, Map<String, Long> byType) {
+}
@@ -1,5 +1,7 @@
 package com.elice.sdz.inquiry.entity;
 
+import com.elice.sdz.global.web.CollectionVersionListener;
+import com.elice.sdz.global.web.VersionedCollection;
 import com.elice.sdz.image.entity.Image;
 import com.elice.sdz.product.entity.Product;
 import com.elice.sdz.user.entity.Users;
@@ -16,7 +18,13 @@ import java.util.List;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "inquiry")
+// 관리자 답변 대기열: 상태(+유형) 로 범위를 좁히고 inquiry_id 순으로 키셋 페이징
+@Table(name = "inquiry", indexes = {
+        @Index(name = "idx_inquiry_status_type_id", columnList = "inquiry_status, inquiry_type, inquiry_id"),
+        @Index(name = "idx_inquiry_status_id", columnList = "inquiry_status, inquiry_id")
+})
+@EntityListeners(CollectionVersionListener.class)
+@VersionedCollection("inquiries")
 public class Inquiry {
 
     @Id
@@ -60,6 +68,14 @@ public class Inquiry {
     @Column(name = "inquiry_status", nullable = false)
     private Status inquiryStatus;
 
+    // 답변 담당 관리자 선점 정보 (만료 시각이 지나면 다른 관리자가 다시 가져갈 수 있음)
+    @Column(name = "claimed_by", length = 50)
+    private String claimedBy;
+
+    @Column(name = "claim_expires_at",
+            columnDefinition = "TIMESTAMP NULL DEFAULT NULL")
+    private Instant claimExpiresAt;
+
     @OneToMany(mappedBy = "inquiryId", cascade = CascadeType.ALL,
             orphanRemoval = true)
     private final List<Image> images = new ArrayList<>();
@@ -0,0 +1,19 @@
+package com.elice.sdz.inquiry.mapper;
+
+import com.elice.sdz.global.config.MapperConfiguration;
+import com.elice.sdz.inquiry.dto.InquiryDto;
+import com.elice.sdz.inquiry.entity.Inquiry;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(config = MapperConfiguration.class)
+public interface InquiryMapper {
+
+    @Mapping(target = "productId", source = "productId.productId")
+    @Mapping(target = "userId", source = "userId.userId")
+    InquiryDto toDto(Inquiry inquiry);
+
+    List<InquiryDto> toDtoList(List<Inquiry> inquiries);
+}
@@ -0,0 +1,121 @@
+package com.elice.sdz.inquiry.repository;
+
+import com.elice.sdz.inquiry.dto.InquiryQueueItem;
+import com.elice.sdz.inquiry.entity.Inquiry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 관리자 문의 대기열 조회/선점 (엔티티를 읽지 않고 단일 SQL 로 처리)
+// 목록은 (inquiry_status, inquiry_type, inquiry_id) / (inquiry_status, inquiry_id) 인덱스 범위만 읽는 키셋 페이징
+// 선점/답변/해제는 조건부 UPDATE 한 번으로 끝나므로 여러 관리자가 동시에 요청해도 한 명만 성공한다
+@Repository
+public class InquiryQueueRepository {
+
+    private static final String SELECT_PENDING_SQL =
+            "SELECT inquiry_id, inquiry_type, inquiry_title, product_id, user_id, reg_date, " +
+            "claimed_by, claim_expires_at FROM inquiry " +
+            "WHERE inquiry_status = 'PENDING' ";
+
+    private static final String CLAIM_SQL =
+            "UPDATE inquiry SET claimed_by = ?, claim_expires_at = ? " +
+            "WHERE inquiry_id = ? AND inquiry_status = 'PENDING' " +
+            "AND (claimed_by IS NULL OR claimed_by = ? OR claim_expires_at <= ?)";
+
+    private static final String ANSWER_SQL =
+            "UPDATE inquiry SET answer_content = ?, answer_reg_date = ?, inquiry_status = 'ANSWERED', " +
+            "claimed_by = NULL, claim_expires_at = NULL " +
+            "WHERE inquiry_id = ? AND inquiry_status = 'PENDING' AND claimed_by = ? AND claim_expires_at > ?";
+
+    private static final String RELEASE_SQL =
+            "UPDATE inquiry SET claimed_by = NULL, claim_expires_at = NULL " +
+            "WHERE inquiry_id = ? AND inquiry_status = 'PENDING' AND claimed_by = ?";
+
+    private static final String SELECT_STATE_SQL =
+            "SELECT inquiry_status, claimed_by, claim_expires_at FROM inquiry WHERE inquiry_id = ?";
+
+    private static final String COUNT_PENDING_SQL =
+            "SELECT inquiry_type, COUNT(*) AS pending FROM inquiry " +
+            "WHERE inquiry_status = 'PENDING' GROUP BY inquiry_type ORDER BY inquiry_type";
+
+    private static final RowMapper<InquiryQueueItem> ITEM_MAPPER = (rs, rowNum) -> new InquiryQueueItem(
+            rs.getLong("inquiry_id"),
+            rs.getString("inquiry_type"),
+            rs.getString("inquiry_title"),
+            rs.getObject("product_id", Long.class),
+            rs.getString("user_id"),
+            toInstant(rs.getTimestamp("reg_date")),
+            rs.getString("claimed_by"),
+            toInstant(rs.getTimestamp("claim_expires_at")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public InquiryQueueRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // inquiryType 이 null 이면 전체 유형, unclaimedOnly 면 선점 중인 문의 제외
+    public List<InquiryQueueItem> findPending(String inquiryType, long afterId, int limit,
+                                              boolean unclaimedOnly, Instant now) {
+        StringBuilder sql = new StringBuilder(SELECT_PENDING_SQL);
+        List<Object> args = new ArrayList<>(4);
+        if (inquiryType != null) {
+            sql.append("AND inquiry_type = ? ");
+            args.add(inquiryType);
+        }
+        sql.append("AND inquiry_id > ? ");
+        args.add(afterId);
+        if (unclaimedOnly) {
+            sql.append("AND (claimed_by IS NULL OR claim_expires_at <= ?) ");
+            args.add(Timestamp.from(now));
+        }
+        sql.append("ORDER BY inquiry_id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), ITEM_MAPPER, args.toArray());
+    }
+
+    public boolean claim(Long inquiryId, String adminId, Instant now, Instant expiresAt) {
+        return jdbcTemplate.update(CLAIM_SQL, adminId, Timestamp.from(expiresAt), inquiryId,
+                adminId, Timestamp.from(now)) == 1;
+    }
+
+    public boolean answer(Long inquiryId, String adminId, String answerContent, Instant now) {
+        return jdbcTemplate.update(ANSWER_SQL, answerContent, Timestamp.from(now), inquiryId,
+                adminId, Timestamp.from(now)) == 1;
+    }
+
+    public boolean release(Long inquiryId, String adminId) {
+        return jdbcTemplate.update(RELEASE_SQL, inquiryId, adminId) == 1;
+    }
+
+    // 조건부 UPDATE 가 실패했을 때 원인(없음/답변 완료/다른 관리자 선점)을 구분하기 위한 조회
+    public Optional<ClaimState> findState(Long inquiryId) {
+        return jdbcTemplate.query(SELECT_STATE_SQL, (rs, rowNum) -> new ClaimState(
+                Inquiry.Status.valueOf(rs.getString("inquiry_status")),
+                rs.getString("claimed_by"),
+                toInstant(rs.getTimestamp("claim_expires_at"))), inquiryId).stream().findFirst();
+    }
+
+    public Map<String, Long> countPendingByType() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        jdbcTemplate.query(COUNT_PENDING_SQL, rs -> {
+            counts.put(rs.getString("inquiry_type"), rs.getLong("pending"));
+        });
+        return counts;
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    public record ClaimState(Inquiry.Status status, String claimedBy, Instant claimExpiresAt) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.elice.sdz.inquiry.service;
+
+import com.elice.sdz.global.exception.BusinessException;
+import com.elice.sdz.global.exception.ErrorCode;
+import com.elice.sdz.global.exception.InvalidValueException;
+import com.elice.sdz.global.exception.NotFoundException;
+import com.elice.sdz.global.web.CollectionVersions;
+import com.elice.sdz.inquiry.config.InquiryQueueProperties;
+import com.elice.sdz.inquiry.dto.InquiryClaim;
+import com.elice.sdz.inquiry.dto.InquiryQueueItem;
+import com.elice.sdz.inquiry.dto.InquiryQueuePage;
+import com.elice.sdz.inquiry.entity.Inquiry;
+import com.elice.sdz.inquiry.repository.InquiryQueueRepository;
+import com.elice.sdz.inquiry.repository.InquiryQueueRepository.ClaimState;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+// 관리자 문의 답변 대기열
+// 선점(claim)은 만료 시각이 있는 임대 방식이라 관리자가 답변하지 않고 떠나도 일정 시간 후 다시 대기열에 노출된다
+@Service
+public class InquiryQueueService {
+
+    private static final int MAX_ADMIN_ID_LENGTH = 50;
+    private static final int MAX_TYPE_LENGTH = 20;
+    private static final int MAX_ANSWER_LENGTH = 500;
+
+    private final InquiryQueueRepository inquiryQueueRepository;
+    private final InquiryQueueProperties properties;
+    private final CollectionVersions collectionVersions;
+
+    public InquiryQueueService(InquiryQueueRepository inquiryQueueRepository,
+                               InquiryQueueProperties properties,
+                               CollectionVersions collectionVersions) {
+        this.inquiryQueueRepository = inquiryQueueRepository;
+        this.properties = properties;
+        this.collectionVersions = collectionVersions;
+    }
+
+    public InquiryQueuePage getQueue(String inquiryType, long cursor, Integer size, boolean includeClaimed) { //답변 대기 문의 조회
+        int pageSize = size == null || size <= 0 ? properties.getDefaultPageSize()
+                : Math.min(size, properties.getMaxPageSize());
+        // 한 건 더 읽어서 다음 페이지 존재 여부를 판단
+        List<InquiryQueueItem> items = inquiryQueueRepository.findPending(normalizeType(inquiryType), cursor,
+                pageSize + 1, !includeClaimed, Instant.now());
+        if (items.size() <= pageSize) {
+            return new InquiryQueuePage(items, null);
+        }
+        List<InquiryQueueItem> page = items.subList(0, pageSize);
+        return new InquiryQueuePage(List.copyOf(page), page.get(pageSize - 1).inquiryId());
+    }
+
+    public InquiryClaim claim(Long inquiryId, String adminId) { //특정 문의 선점 (본인이 선점 중이면 연장)
+        requireAdmin(adminId);
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(properties.getLeaseDuration());
+        if (inquiryQueueRepository.claim(inquiryId, adminId, now, expiresAt)) {
+            return new InquiryClaim(inquiryId, adminId, expiresAt);
+        }
+        ClaimState state = findState(inquiryId);
+        if (state.status() == Inquiry.Status.ANSWERED) {
+            throw new BusinessException(ErrorCode.INQUIRY_ALREADY_ANSWERED);
+        }
+        throw new BusinessException(ErrorCode.INQUIRY_ALREADY_CLAIMED);
+    }
+
+    public Optional<InquiryQueueItem> claimNext(String inquiryType, String adminId) { //가장 오래된 미선점 문의 선점
+        requireAdmin(adminId);
+        String type = normalizeType(inquiryType);
+        long afterId = 0;
+        // 후보를 몇 건씩 읽어 순서대로 선점을 시도하고, 다른 관리자에게 모두 뺏기면 그 다음 구간을 조회
+        for (int round = 0; round < properties.getMaxClaimRounds(); round++) {
+            Instant now = Instant.now();
+            List<InquiryQueueItem> candidates = inquiryQueueRepository.findPending(type, afterId,
+                    properties.getClaimCandidates(), true, now);
+            Instant expiresAt = now.plus(properties.getLeaseDuration());
+            for (InquiryQueueItem candidate : candidates) {
+                if (inquiryQueueRepository.claim(candidate.inquiryId(), adminId, now, expiresAt)) {
+                    return Optional.of(new InquiryQueueItem(candidate.inquiryId(), candidate.inquiryType(),
+                            candidate.inquiryTitle(), candidate.productId(), candidate.userId(),
+                            candidate.regDate(), adminId, expiresAt));
+                }
+            }
+            if (candidates.size() < properties.getClaimCandidates()) {
+                break;
+            }
+            afterId = candidates.get(candidates.size() - 1).inquiryId();
+        }
+        return Optional.empty();
+    }
+
+    public void answer(Long inquiryId, String adminId, String answerContent) { //선점한 문의에 답변 등록
+        requireAdmin(adminId);
+        if (answerContent == null || answerContent.isBlank() || answerContent.length() > MAX_ANSWER_LENGTH) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT,
+                    "answerContent must be 1 to " + MAX_ANSWER_LENGTH + " characters.");
+        }
+        if (inquiryQueueRepository.answer(inquiryId, adminId, answerContent, Instant.now())) {
+            // JDBC 로 직접 변경하므로 엔티티 리스너 대신 여기서 버전을 올려 대기 건수 푸시를 유도
+            collectionVersions.bump("inquiries");
+            return;
+        }
+        ClaimState state = findState(inquiryId);
+        if (state.status() == Inquiry.Status.ANSWERED) {
+            throw new BusinessException(ErrorCode.INQUIRY_ALREADY_ANSWERED);
+        }
+        throw new BusinessException(ErrorCode.INQUIRY_CLAIM_REQUIRED);
+    }
+
+    public void release(Long inquiryId, String adminId) { //선점 해제 (이미 해제/만료됐으면 그대로 성공)
+        requireAdmin(adminId);
+        if (inquiryQueueRepository.release(inquiryId, adminId)) {
+            return;
+        }
+        ClaimState state = findState(inquiryId);
+        if (state.status() == Inquiry.Status.ANSWERED) {
+            throw new BusinessException(ErrorCode.INQUIRY_ALREADY_ANSWERED);
+        }
+        if (state.claimedBy() != null && state.claimExpiresAt() != null
+                && state.claimExpiresAt().isAfter(Instant.now())) {
+            throw new BusinessException(ErrorCode.INQUIRY_ALREADY_CLAIMED);
+        }
+    }
+
+    private ClaimState findState(Long inquiryId) {
+        return inquiryQueueRepository.findState(inquiryId)
+                .orElseThrow(() -> NotFoundException.of(ErrorCode.INQUIRY_NOT_FOUND));
+    }
+
+    private String normalizeType(String inquiryType) {
+        if (inquiryType == null || inquiryType.isBlank()) {
+            return null;
+        }
+        if (inquiryType.length() > MAX_TYPE_LENGTH) {
+            throw InvalidValueException.of(ErrorCode.INVALID_INPUT);
+        }
+        return inquiryType;
+    }
+
+    private void requireAdmin(String adminId) {
+        if (adminId == null || adminId.isBlank() || adminId.length() > MAX_ADMIN_ID_LENGTH) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT, "adminId is required.");
+        }
+    }
+}
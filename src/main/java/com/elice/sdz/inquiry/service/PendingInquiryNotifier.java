@@ -0,0 +1,172 @@
+package com.elice.sdz.inquiry.service;
+
+import com.elice.sdz.global.exception.BusinessException;
+import com.elice.sdz.global.exception.ErrorCode;
+import com.elice.sdz.global.web.CollectionVersions;
+import com.elice.sdz.inquiry.config.InquiryQueueProperties;
+import com.elice.sdz.inquiry.dto.PendingInquiryCount;
+import com.elice.sdz.inquiry.repository.InquiryQueueRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 관리자 화면에 답변 대기 건수를 SSE 로 푸시
+// - 구독자 수와 무관하게 주기마다 "inquiries" 컬렉션 버전만 비교하고, 바뀌었을 때만 집계 쿼리를 1회 실행
+// - 건수가 실제로 달라졌을 때만 전송하고, 변화가 없으면 하트비트 주석으로 연결만 유지
+@Slf4j
+@Service
+public class PendingInquiryNotifier {
+
+    private static final String COLLECTION = "inquiries";
+    private static final String EVENT_NAME = "pending-count";
+
+    private final InquiryQueueRepository inquiryQueueRepository;
+    private final CollectionVersions collectionVersions;
+    private final InquiryQueueProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Set<SseEmitter> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+
+    private long countedVersion = -1;
+    private PendingInquiryCount count;
+    private String countJson;
+    private volatile long lastSentNanos = System.nanoTime();
+
+    public PendingInquiryNotifier(InquiryQueueRepository inquiryQueueRepository,
+                                  CollectionVersions collectionVersions,
+                                  InquiryQueueProperties properties,
+                                  ObjectMapper objectMapper) {
+        this.inquiryQueueRepository = inquiryQueueRepository;
+        this.collectionVersions = collectionVersions;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("inquiry-push-"));
+        long interval = properties.getPushInterval().toMillis();
+        this.scheduler.scheduleWithFixedDelay(this::tick, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        subscribers.forEach(SseEmitter::complete);
+        subscribers.clear();
+    }
+
+    public SseEmitter subscribe() { //대기 건수 구독 (연결 직후 현재 건수를 한 번 전송)
+        if (subscriberCount.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new BusinessException(ErrorCode.SERVER_OVERLOADED);
+        }
+        SseEmitter emitter = new SseEmitter(properties.getSubscriberTimeout().toMillis());
+        subscribers.add(emitter);
+        emitter.onCompletion(() -> remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(emitter));
+        // 현재 건수도 tick 과 같은 스레드에서 보내, 먼저 읽은 건수가 더 새로운 푸시 뒤에 도착하지 않도록 한다
+        scheduler.execute(() -> sendSnapshot(emitter));
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public synchronized PendingInquiryCount currentCount() {
+        refreshCount(false);
+        return count;
+    }
+
+    void tick() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            String changed = refreshCount(true);
+            if (changed != null) {
+                subscribers.forEach(emitter -> send(emitter, changed));
+            } else if (System.nanoTime() - lastSentNanos >= properties.getHeartbeatInterval().toNanos()) {
+                subscribers.forEach(this::heartbeat);
+                lastSentNanos = System.nanoTime();
+            }
+        } catch (RuntimeException e) {
+            // 예외가 밖으로 나가면 이후 주기 실행이 모두 취소되므로 여기서 끊는다
+            log.warn("Failed to push pending inquiry count", e);
+        }
+    }
+
+    // 버전이 바뀌었으면 다시 집계해 직렬화된 JSON 을 반환
+    // onlyIfChanged 면 건수가 이전과 같을 때 null 을 반환해 불필요한 전송을 막는다
+    private synchronized String refreshCount(boolean onlyIfChanged) {
+        // 집계 전에 버전을 읽어 집계 도중 들어온 변경은 다음 주기에 다시 반영되도록 한다
+        long version = collectionVersions.current(COLLECTION).version();
+        if (version == countedVersion && count != null) {
+            return onlyIfChanged ? null : countJson;
+        }
+        Map<String, Long> byType = inquiryQueueRepository.countPendingByType();
+        PendingInquiryCount latest = new PendingInquiryCount(
+                byType.values().stream().mapToLong(Long::longValue).sum(), byType);
+        countedVersion = version;
+        if (latest.equals(count)) {
+            return onlyIfChanged ? null : countJson;
+        }
+        count = latest;
+        try {
+            countJson = objectMapper.writeValueAsString(latest);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        return countJson;
+    }
+
+    private void sendSnapshot(SseEmitter emitter) {
+        if (!subscribers.contains(emitter)) {
+            return;
+        }
+        try {
+            send(emitter, refreshCount(false));
+        } catch (RuntimeException e) {
+            log.warn("Failed to send pending inquiry count snapshot", e);
+            remove(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void send(SseEmitter emitter, String json) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(json, MediaType.APPLICATION_JSON));
+            lastSentNanos = System.nanoTime();
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결은 바로 정리 (남은 정리는 컨테이너의 오류 콜백이 처리)
+            remove(emitter);
+        }
+    }
+
+    private void heartbeat(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        } catch (IOException | IllegalStateException e) {
+            remove(emitter);
+        }
+    }
+
+    private void remove(SseEmitter emitter) {
+        if (subscribers.remove(emitter)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.elice.sdz.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sdz.order.stream")
+public class OrderStatusStreamProperties {
+    private int maxSubscriptions = 10000;                          // 동시 구독(SSE + 롱 폴링) 상한
+    private int maxOrdersPerSubscription = 20;                     // 한 구독에서 지켜볼 수 있는 주문 수
+    private Duration streamTimeout = Duration.ofMinutes(30);       // SSE 연결 최대 유지 시간 (만료 후 클라이언트가 재연결)
+    private Duration longPollTimeout = Duration.ofSeconds(30);     // 롱 폴링 대기 시간 (변경이 없으면 204)
+    private Duration heartbeatInterval = Duration.ofSeconds(20);   // SSE 연결 유지용 주석 전송 주기
+}
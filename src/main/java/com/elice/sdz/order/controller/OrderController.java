@@ -1,5 +1,6 @@
 package com.elice.sdz.order.controller;
 
+import com.elice.sdz.global.web.ConditionalGet;
 import com.elice.sdz.order.dto.OrderDto;
 import com.elice.sdz.order.entity.Order;
 import com.elice.sdz.order.service.OrderService;
@@ -20,11 +21,15 @@ public class OrderController {
         this.orderService = orderService;
     }
 
+    @ConditionalGet("orders")
     @GetMapping//전체주문조회
-    public ResponseEntity<List<OrderDto>> getAllOrders() {
-        return ResponseEntity.ok(orderService.getAllOrders());
+    public ResponseEntity<List<OrderDto>> getAllOrders(@RequestParam(defaultValue = "false") boolean includeArchived) {
+        return ResponseEntity.ok(includeArchived
+                ? orderService.getAllOrdersIncludingArchived()
+                : orderService.getAllOrders());
     }
 
+    // 단건 조회는 컬렉션 버전을 쓰면 다른 주문 변경마다 무효화되므로 조건부 조회를 적용하지 않음
     @GetMapping("/{orderId}")//특정주문조회
     public ResponseEntity<OrderDto> getOrderById(@PathVariable Long orderId) {
         return ResponseEntity.ok(orderService.getOrderById(orderId));
@@ -40,6 +45,11 @@ public class OrderController {
         return ResponseEntity.ok(orderService.updateOrder(orderId, orderDto));
     }
 
+    @PatchMapping("/{orderId}/status") //주문 상태 변경
+    public ResponseEntity<OrderDto> updateOrderStatus(@PathVariable Long orderId, @RequestParam Order.Status status) {
+        return ResponseEntity.ok(orderService.updateOrderStatus(orderId, status));
+    }
+
     @DeleteMapping("/{orderId}") //주문삭제
     public ResponseEntity<Void> deleteOrder(@PathVariable Long orderId) {
         orderService.deleteOrder(orderId);
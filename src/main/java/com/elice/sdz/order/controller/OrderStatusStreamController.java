@@ -0,0 +1,34 @@
+package com.elice.sdz.order.controller;
+
+import com.elice.sdz.order.dto.OrderStatusDto;
+import com.elice.sdz.order.entity.Order;
+import com.elice.sdz.order.service.OrderStatusHub;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/orders")
+public class OrderStatusStreamController {
+
+    private final OrderStatusHub orderStatusHub;
+
+    public OrderStatusStreamController(OrderStatusHub orderStatusHub) {
+        this.orderStatusHub = orderStatusHub;
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)//주문 상태 구독 (SSE)
+    public SseEmitter streamOrderStatus(@RequestParam List<Long> orderIds) {
+        return orderStatusHub.subscribe(orderIds);
+    }
+
+    @GetMapping("/{orderId}/status")//주문 상태 롱 폴링 (since 와 달라지면 응답, 시간 초과 시 204)
+    public DeferredResult<ResponseEntity<OrderStatusDto>> awaitOrderStatus(@PathVariable Long orderId,
+                                                                           @RequestParam(required = false) Order.Status since) {
+        return orderStatusHub.awaitChange(orderId, since);
+    }
+}
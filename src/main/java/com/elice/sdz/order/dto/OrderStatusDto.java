@@ -0,0 +1,7 @@
+package com.elice.sdz.order.dto;
+
+import com.elice.sdz.order.entity.Order;
+
+// 주문 상태 구독 응답 (SSE 이벤트 / 롱 폴링 응답 본문)
+public record OrderStatusDto(Long orderId, Order.Status orderStatus) {
+}
@@ -0,0 +1,16 @@
+package com.elice.sdz.order.dto;
+
+import com.elice.sdz.order.entity.Order;
+
+import java.time.Instant;
+
+// 목록 조회용 프로젝션 (엔티티/연관관계를 로딩하지 않고 필요한 컬럼만 조회)
+public record OrderSummary(
+        Long orderId,
+        int orderCount,
+        Double orderAmount,
+        Order.Status orderStatus,
+        Instant regDate,
+        boolean refundStatus
+) {
+}
@@ -1,5 +1,7 @@
 package com.elice.sdz.order.entity;
 
+import com.elice.sdz.global.web.CollectionVersionListener;
+import com.elice.sdz.global.web.VersionedCollection;
 import com.elice.sdz.user.entity.Users;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -13,6 +15,8 @@ import java.time.Instant;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "product_order")
+@EntityListeners(CollectionVersionListener.class)
+@VersionedCollection("orders")
 public class Order {
 
     @Id
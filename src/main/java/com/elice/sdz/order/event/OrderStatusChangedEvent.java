@@ -0,0 +1,10 @@
+package com.elice.sdz.order.event;
+
+import com.elice.sdz.order.entity.Order;
+
+import java.time.Instant;
+
+// 주문 상태 변경 이벤트 (커밋 이후에만 구독자에게 전달됨)
+public record OrderStatusChangedEvent(Long orderId, Order.Status previousStatus, Order.Status orderStatus,
+                                      Instant changedAt) {
+}
@@ -0,0 +1,41 @@
+package com.elice.sdz.order.mapper;
+
+import com.elice.sdz.archive.entity.ArchivedOrder;
+import com.elice.sdz.global.config.MapperConfiguration;
+import com.elice.sdz.order.dto.OrderDto;
+import com.elice.sdz.order.dto.OrderSummary;
+import com.elice.sdz.order.entity.Order;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import java.util.List;
+
+@Mapper(config = MapperConfiguration.class)
+public interface OrderMapper {
+
+    @Mapping(target = "productId", ignore = true)
+    OrderDto toDto(Order order);
+
+    @Mapping(target = "productId", ignore = true)
+    OrderDto toDto(ArchivedOrder order);
+
+    @Mapping(target = "productId", ignore = true)
+    OrderDto toDto(OrderSummary summary);
+
+    List<OrderDto> toDtoList(List<OrderSummary> summaries);
+
+    // 주문자, 주문일, 주문/환불 상태는 클라이언트 값으로 정하지 않는다 (새 주문은 항상 PENDING)
+    @Mapping(target = "userId", ignore = true)
+    @Mapping(target = "regDate", ignore = true)
+    @Mapping(target = "orderStatus", constant = "PENDING")
+    @Mapping(target = "refundStatus", ignore = true)
+    Order toEntity(OrderDto dto);
+
+    // 주문 수정은 수량과 금액만 반영
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "orderCount")
+    @Mapping(target = "orderAmount")
+    void updateEntity(OrderDto dto, @MappingTarget Order order);
+}
@@ -1,9 +1,26 @@
 package com.elice.sdz.order.repository;
 
+import com.elice.sdz.order.dto.OrderStatusDto;
+import com.elice.sdz.order.dto.OrderSummary;
 import com.elice.sdz.order.entity.Order;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    // 목록 조회는 엔티티(+ 주문자 연관관계) 대신 레코드로 바로 조회
+    @Query("SELECT new com.elice.sdz.order.dto.OrderSummary(o.orderId, o.orderCount, o.orderAmount, " +
+            "o.orderStatus, o.regDate, o.refundStatus) FROM Order o ORDER BY o.orderId")
+    List<OrderSummary> findAllSummaries();
+
+    // 상태 구독 시작 시점의 현재 상태
+    @Query("SELECT new com.elice.sdz.order.dto.OrderStatusDto(o.orderId, o.orderStatus) " +
+            "FROM Order o WHERE o.orderId IN :orderIds")
+    List<OrderStatusDto> findStatuses(@Param("orderIds") Collection<Long> orderIds);
 }
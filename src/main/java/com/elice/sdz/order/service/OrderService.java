@@ -1,76 +1,85 @@
 package com.elice.sdz.order.service;
 
+import com.elice.sdz.archive.repository.ArchivedOrderRepository;
+import com.elice.sdz.global.exception.ErrorCode;
+import com.elice.sdz.global.exception.NotFoundException;
 import com.elice.sdz.order.dto.OrderDto;
 import com.elice.sdz.order.entity.Order;
+import com.elice.sdz.order.event.OrderStatusChangedEvent;
+import com.elice.sdz.order.mapper.OrderMapper;
 import com.elice.sdz.order.repository.OrderRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class OrderService {
 
     private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final OrderMapper orderMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public OrderService(OrderRepository orderRepository) {
+    public OrderService(OrderRepository orderRepository, ArchivedOrderRepository archivedOrderRepository,
+                        OrderMapper orderMapper, ApplicationEventPublisher eventPublisher) {
         this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.orderMapper = orderMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)//읽기전용
     public List<OrderDto> getAllOrders() { //모든 주문조회
-        return orderRepository.findAll().stream().map(this::toDto).collect(Collectors.toList());
+        return orderMapper.toDtoList(orderRepository.findAllSummaries());
     }
 
     @Transactional(readOnly = true)
-    public OrderDto getOrderById(Long id) { //특정 주문조회
-        Order order = orderRepository.findById(id).orElseThrow(() -> new RuntimeException("Order not found"));
-        return toDto(order);
+    public List<OrderDto> getAllOrdersIncludingArchived() { //보관된 주문까지 포함해 조회
+        List<OrderDto> orders = new ArrayList<>(orderMapper.toDtoList(orderRepository.findAllSummaries()));
+        orders.addAll(orderMapper.toDtoList(archivedOrderRepository.findAllSummaries()));
+        return orders;
+    }
+
+    @Transactional(readOnly = true)
+    public OrderDto getOrderById(Long id) { //특정 주문조회 (없으면 보관 테이블에서 조회)
+        return orderRepository.findById(id).map(orderMapper::toDto)
+                .orElseGet(() -> archivedOrderRepository.findById(id).map(orderMapper::toDto)
+                        .orElseThrow(() -> NotFoundException.of(ErrorCode.ORDER_NOT_FOUND)));
     }
 
     @Transactional
     public OrderDto createOrder(OrderDto orderDto) { //주문 생성
-        Order order = toEntity(orderDto);
+        Order order = orderMapper.toEntity(orderDto);
         Order savedOrder = orderRepository.save(order);
-        return toDto(savedOrder);
+        return orderMapper.toDto(savedOrder);
     }
 
     @Transactional
     public OrderDto updateOrder(Long id, OrderDto orderDto) { //주문 수정
-        Order order = orderRepository.findById(id).orElseThrow(() -> new RuntimeException("Order not found"));
-        order.setOrderCount(orderDto.getOrderCount());
-        order.setOrderAmount(orderDto.getOrderAmount());
-        //order.setOrderStatus(orderDto.getOrderStatus());
-        //order.setRefundStatus(orderDto.isRefundStatus());
+        Order order = orderRepository.findById(id).orElseThrow(() -> NotFoundException.of(ErrorCode.ORDER_NOT_FOUND));
+        orderMapper.updateEntity(orderDto, order);
         Order updatedOrder = orderRepository.save(order);
-        return toDto(updatedOrder);
+        return orderMapper.toDto(updatedOrder);
     }
 
     @Transactional
-    public void deleteOrder(Long id) { //주문 삭제
-        Order order = orderRepository.findById(id).orElseThrow(() -> new RuntimeException("Order not found"));
-        orderRepository.delete(order);
+    public OrderDto updateOrderStatus(Long id, Order.Status status) { //주문 상태 변경 (커밋 후 구독자에게 전달)
+        Order order = orderRepository.findById(id).orElseThrow(() -> NotFoundException.of(ErrorCode.ORDER_NOT_FOUND));
+        Order.Status previous = order.getOrderStatus();
+        if (previous != status) {
+            order.setOrderStatus(status);
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(id, previous, status, Instant.now()));
+        }
+        return orderMapper.toDto(orderRepository.save(order));
     }
 
-    private OrderDto toDto(Order order) {
-        OrderDto dto = new OrderDto();
-        dto.setOrderId(order.getOrderId());
-        dto.setOrderCount(order.getOrderCount());
-        dto.setOrderAmount(order.getOrderAmount());
-        //dto.setOrderStatus(order.getOrderStatus());
-        //dto.setRegDate(order.getRegDate());
-        //dto.setRefundStatus(order.isRefundStatus());
-        return dto;
-    }
-
-    private Order toEntity(OrderDto dto) {
-        Order order = new Order();
-        order.setOrderId(dto.getOrderId());
-        order.setOrderCount(dto.getOrderCount());
-        order.setOrderAmount(dto.getOrderAmount());
-        //order.setOrderStatus(dto.getOrderStatus());
-        //order.setRefundStatus(dto.isRefundStatus());
-        return order;
+    @Transactional
+    public void deleteOrder(Long id) { //주문 삭제
+        Order order = orderRepository.findById(id).orElseThrow(() -> NotFoundException.of(ErrorCode.ORDER_NOT_FOUND));
+        orderRepository.delete(order);
     }
 }
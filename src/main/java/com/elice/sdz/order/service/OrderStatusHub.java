@@ -0,0 +1,248 @@
+package com.elice.sdz.order.service;
+
+import com.elice.sdz.global.exception.BusinessException;
+import com.elice.sdz.global.exception.ErrorCode;
+import com.elice.sdz.global.exception.InvalidValueException;
+import com.elice.sdz.global.exception.NotFoundException;
+import com.elice.sdz.order.config.OrderStatusStreamProperties;
+import com.elice.sdz.order.dto.OrderStatusDto;
+import com.elice.sdz.order.entity.Order;
+import com.elice.sdz.order.event.OrderStatusChangedEvent;
+import com.elice.sdz.order.repository.OrderRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 주문 상태 변경을 구독 중인 클라이언트에게 전달 (폴링 대체)
+// - 연결은 비동기 서블릿(SseEmitter / DeferredResult)으로 유지하므로 대기 중인 연결이 요청 스레드를 점유하지 않는다
+// - 커밋된 변경만 전달하고, 전송/하트비트는 전용 스레드 하나가 순서대로 처리
+// - 구독 수, 구독당 주문 수, 연결 유지 시간에 상한을 둬 메모리를 제한
+@Slf4j
+@Service
+public class OrderStatusHub {
+
+    private static final String EVENT_NAME = "order-status";
+
+    private final OrderRepository orderRepository;
+    private final OrderStatusStreamProperties properties;
+    private final Map<Long, Set<Subscription>> subscriptionsByOrder = new ConcurrentHashMap<>();
+    private final Set<StreamSubscription> streams = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+    private final ScheduledExecutorService dispatcher;
+
+    public OrderStatusHub(OrderRepository orderRepository, OrderStatusStreamProperties properties) {
+        this.orderRepository = orderRepository;
+        this.properties = properties;
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("order-status-"));
+        long heartbeat = properties.getHeartbeatInterval().toMillis();
+        this.dispatcher.scheduleWithFixedDelay(this::heartbeat, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        streams.forEach(stream -> stream.emitter.complete());
+    }
+
+    public SseEmitter subscribe(Collection<Long> orderIds) { //주문 상태 스트림 구독 (연결 직후 현재 상태를 한 번 전송)
+        List<Long> ids = validate(orderIds);
+        acquireSlot();
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        StreamSubscription subscription = new StreamSubscription(ids, emitter);
+        emitter.onCompletion(() -> unregister(subscription));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unregister(subscription));
+        streams.add(subscription);
+        // 먼저 등록한 뒤 현재 상태를 읽어, 그 사이에 커밋된 변경을 놓치지 않도록 한다
+        register(subscription);
+        List<OrderStatusDto> snapshot;
+        try {
+            snapshot = orderRepository.findStatuses(ids);
+        } catch (RuntimeException e) {
+            unregister(subscription);
+            throw e;
+        }
+        // 초기 상태도 변경 전송과 같은 스레드에서 보내고, 이미 변경을 보낸 주문의 (더 오래됐을 수 있는) 값은 건너뛴다
+        dispatcher.execute(() -> snapshot.forEach(subscription::deliverSnapshot));
+        return emitter;
+    }
+
+    // since 와 다른 상태가 되면 응답 (이미 다르면 즉시 응답, 대기 시간 안에 변경이 없으면 204)
+    public DeferredResult<ResponseEntity<OrderStatusDto>> awaitChange(Long orderId, Order.Status since) { //주문 상태 롱 폴링
+        acquireSlot();
+        DeferredResult<ResponseEntity<OrderStatusDto>> result = new DeferredResult<>(
+                properties.getLongPollTimeout().toMillis(), ResponseEntity.noContent().build());
+        PollSubscription subscription = new PollSubscription(orderId, since, result);
+        result.onCompletion(() -> unregister(subscription));
+        register(subscription);
+        List<OrderStatusDto> current;
+        try {
+            current = orderRepository.findStatuses(List.of(orderId));
+        } catch (RuntimeException e) {
+            unregister(subscription);
+            throw e;
+        }
+        if (current.isEmpty()) {
+            unregister(subscription);
+            throw NotFoundException.of(ErrorCode.ORDER_NOT_FOUND);
+        }
+        subscription.deliver(current.get(0));
+        return result;
+    }
+
+    public int getSubscriptionCount() {
+        return subscriptionCount.get();
+    }
+
+    // 트랜잭션 밖에서 발행된 이벤트는 바로 전달, 롤백된 트랜잭션의 이벤트는 버려진다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        Set<Subscription> subscriptions = subscriptionsByOrder.get(event.orderId());
+        if (subscriptions == null) {
+            return;
+        }
+        OrderStatusDto status = new OrderStatusDto(event.orderId(), event.orderStatus());
+        dispatcher.execute(() -> subscriptions.forEach(subscription -> subscription.deliver(status)));
+    }
+
+    private List<Long> validate(Collection<Long> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT, "orderIds is required.");
+        }
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(orderIds));
+        if (ids.size() > properties.getMaxOrdersPerSubscription()) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT,
+                    "At most " + properties.getMaxOrdersPerSubscription() + " orders can be watched at once.");
+        }
+        return ids;
+    }
+
+    private void acquireSlot() {
+        if (subscriptionCount.incrementAndGet() > properties.getMaxSubscriptions()) {
+            subscriptionCount.decrementAndGet();
+            throw new BusinessException(ErrorCode.SERVER_OVERLOADED);
+        }
+    }
+
+    private void register(Subscription subscription) {
+        for (Long orderId : subscription.orderIds) {
+            subscriptionsByOrder.compute(orderId, (id, subscriptions) -> {
+                Set<Subscription> set = subscriptions == null ? ConcurrentHashMap.newKeySet() : subscriptions;
+                set.add(subscription);
+                return set;
+            });
+        }
+    }
+
+    private void unregister(Subscription subscription) {
+        if (!subscription.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriptionCount.decrementAndGet();
+        if (subscription instanceof StreamSubscription stream) {
+            streams.remove(stream);
+        }
+        for (Long orderId : subscription.orderIds) {
+            // 마지막 구독자가 빠지면 주문 키도 제거해 맵이 구독 중인 주문 수 이상으로 커지지 않게 한다
+            subscriptionsByOrder.computeIfPresent(orderId, (id, subscriptions) -> {
+                subscriptions.remove(subscription);
+                return subscriptions.isEmpty() ? null : subscriptions;
+            });
+        }
+    }
+
+    private void heartbeat() {
+        for (StreamSubscription stream : streams) {
+            try {
+                stream.emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                unregister(stream);
+            } catch (RuntimeException e) {
+                log.warn("Failed to send order status heartbeat", e);
+            }
+        }
+    }
+
+    private abstract static class Subscription {
+        final List<Long> orderIds;
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscription(List<Long> orderIds) {
+            this.orderIds = orderIds;
+        }
+
+        abstract void deliver(OrderStatusDto status);
+    }
+
+    // deliver / deliverSnapshot 은 dispatcher 스레드에서만 호출된다
+    private final class StreamSubscription extends Subscription {
+        private final SseEmitter emitter;
+        private final Set<Long> changedOrders = new HashSet<>();
+
+        StreamSubscription(List<Long> orderIds, SseEmitter emitter) {
+            super(orderIds);
+            this.emitter = emitter;
+        }
+
+        void deliverSnapshot(OrderStatusDto status) {
+            if (!changedOrders.contains(status.orderId())) {
+                send(status);
+            }
+        }
+
+        @Override
+        void deliver(OrderStatusDto status) {
+            changedOrders.add(status.orderId());
+            send(status);
+        }
+
+        private void send(OrderStatusDto status) {
+            if (closed.get()) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(EVENT_NAME).id(Long.toString(status.orderId())).data(status));
+            } catch (IOException | IllegalStateException e) {
+                // 끊긴 연결은 바로 정리 (남은 정리는 컨테이너의 오류 콜백이 처리)
+                unregister(this);
+            }
+        }
+    }
+
+    private final class PollSubscription extends Subscription {
+        private final Order.Status since;
+        private final DeferredResult<ResponseEntity<OrderStatusDto>> result;
+
+        PollSubscription(Long orderId, Order.Status since, DeferredResult<ResponseEntity<OrderStatusDto>> result) {
+            super(List.of(orderId));
+            this.since = since;
+            this.result = result;
+        }
+
+        @Override
+        void deliver(OrderStatusDto status) {
+            if (status.orderStatus() != since && result.setResult(ResponseEntity.ok(status))) {
+                unregister(this);
+            }
+        }
+    }
+}
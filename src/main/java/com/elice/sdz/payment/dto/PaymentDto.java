@@ -0,0 +1,22 @@
+package com.elice.sdz.payment.dto;
+
+import com.elice.sdz.payment.entity.Payment;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema
+public class PaymentDto {
+    private Long paymentId;               // 결제 ID
+    private Long orderId;                 // 주문 ID
+    private Double paymentAmount;         // 결제 금액
+    private String paymentMethod;         // 결제 수단
+    private Instant regDate;              // 결제일
+    private Payment.Status paymentStatus; // 결제 상태
+}
@@ -0,0 +1,18 @@
+package com.elice.sdz.payment.mapper;
+
+import com.elice.sdz.global.config.MapperConfiguration;
+import com.elice.sdz.payment.dto.PaymentDto;
+import com.elice.sdz.payment.entity.Payment;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(config = MapperConfiguration.class)
+public interface PaymentMapper {
+
+    @Mapping(target = "orderId", source = "orderId.orderId")
+    PaymentDto toDto(Payment payment);
+
+    List<PaymentDto> toDtoList(List<Payment> payments);
+}
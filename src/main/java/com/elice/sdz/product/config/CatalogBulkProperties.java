@@ -0,0 +1,15 @@
+package com.elice.sdz.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "sdz.catalog.bulk")
+public class CatalogBulkProperties {
+    private int chunkSize = 1000;        // 한 트랜잭션으로 커밋할 행 수
+    private int insertBatchSize = 500;   // JDBC batch 크기
+    private int importThreads = 4;       // 청크 파싱/등록 스레드 수
+    private int maxInFlightChunks = 8;   // 동시에 대기/처리 중인 청크 수 (메모리 상한)
+    private int exportFetchSize = 1000;  // 내보내기 커서 fetch 크기 (MySQL은 useCursorFetch=true 필요)
+    private int maxReportedErrors = 100; // 결과에 담을 최대 오류 수
+}
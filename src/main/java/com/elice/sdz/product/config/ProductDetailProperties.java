@@ -0,0 +1,13 @@
+package com.elice.sdz.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "sdz.product.detail")
+public class ProductDetailProperties {
+    private int reviewPageSize = 10;      // 상세 화면에 함께 내려줄 리뷰 수
+    private int thumbnailLimit = 10;      // 썸네일 최대 개수
+    private int cacheMaxEntries = 10000;  // 직렬화된 상세 정보 캐시 크기
+    private int versionSlots = 65536;     // 상품 버전 슬롯 수 (2의 거듭제곱으로 올림, 고정 메모리)
+}
@@ -0,0 +1,42 @@
+package com.elice.sdz.product.controller;
+
+import com.elice.sdz.product.dto.CatalogFormat;
+import com.elice.sdz.product.dto.ProductBulkResult;
+import com.elice.sdz.product.service.ProductBulkService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/admin/products/bulk")
+public class ProductBulkController {
+
+    private final ProductBulkService productBulkService;
+
+    public ProductBulkController(ProductBulkService productBulkService) {
+        this.productBulkService = productBulkService;
+    }
+
+    @PostMapping("/import")//상품 대량 등록 (CSV / JSON Lines 스트리밍)
+    public ResponseEntity<ProductBulkResult> importCatalog(@RequestParam String sellerId,
+                                                           @RequestParam(defaultValue = "CSV") CatalogFormat format,
+                                                           InputStream body) throws IOException {
+        return ResponseEntity.ok(productBulkService.importCatalog(body, format, sellerId));
+    }
+
+    @GetMapping("/export")//상품 전체 내보내기 (커서 기반 스트리밍)
+    public ResponseEntity<StreamingResponseBody> exportCatalog(@RequestParam(defaultValue = "CSV") CatalogFormat format) {
+        String filename = "products." + format.name().toLowerCase(Locale.ROOT);
+        StreamingResponseBody body = out -> productBulkService.exportCatalog(out, format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+}
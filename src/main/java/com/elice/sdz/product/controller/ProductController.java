@@ -0,0 +1,38 @@
+package com.elice.sdz.product.controller;
+
+import com.elice.sdz.product.service.ProductDetailService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/products")
+public class ProductController {
+
+    private final ProductDetailService productDetailService;
+
+    public ProductController(ProductDetailService productDetailService) {
+        this.productDetailService = productDetailService;
+    }
+
+    // 컬렉션 전체 버전 대신 상품별 ETag 사용 (다른 상품이 바뀌어도 이 상품의 캐시는 유지)
+    @GetMapping("/{productId}")//상품 상세조회 (미리 직렬화된 JSON)
+    public ResponseEntity<byte[]> getProductDetail(@PathVariable Long productId, WebRequest webRequest)
+            throws JsonProcessingException {
+        // 삭제/없는 상품이 예전 ETag 로 304 를 받지 않도록 존재 확인(캐시 또는 조회) 후 비교
+        ProductDetailService.DetailJson detail = productDetailService.getProductDetail(productId);
+        if (webRequest.checkNotModified(detail.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(detail.json());
+    }
+}
@@ -0,0 +1,16 @@
+package com.elice.sdz.product.dto;
+
+public enum CatalogFormat { //대량 등록/내보내기 파일 형식
+    CSV("text/csv"),
+    JSONL("application/x-ndjson");
+
+    private final String contentType;
+
+    CatalogFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
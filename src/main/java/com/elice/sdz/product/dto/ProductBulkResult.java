@@ -0,0 +1,26 @@
+package com.elice.sdz.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBulkResult {
+    private long totalRows;     // 읽은 행 수
+    private long insertedRows;  // 등록된 행 수
+    private long failedRows;    // 실패한 행 수
+    private List<RowError> errors = new ArrayList<>(); // 실패 사유 (최대 개수 제한)
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;      // 원본 줄 번호 (JSONL은 줄 번호, CSV는 레코드 시작 줄)
+        private String message; // 실패 사유
+    }
+}
@@ -0,0 +1,17 @@
+package com.elice.sdz.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBulkRow {
+    private Long productId;        // 상품 ID (내보내기 전용, 등록 시 무시)
+    private String categoryName;   // 카테고리 이름
+    private String productName;    // 상품명
+    private Integer productCount;  // 재고 수량
+    private Double productAmount;  // 가격
+    private String productContent; // 상품 설명
+}
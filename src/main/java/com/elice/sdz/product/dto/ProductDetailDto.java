@@ -0,0 +1,37 @@
+package com.elice.sdz.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDetailDto {
+    private Long productId;         // 상품 ID
+    private String productName;     // 상품명
+    private String productContent;  // 상품 설명
+    private Double productAmount;   // 가격
+    private int productCount;       // 재고 수량
+    private Long categoryId;        // 카테고리 ID
+    private String categoryName;    // 카테고리 이름
+    private double ratingAverage;   // 평균 평점
+    private long reviewCount;       // 리뷰 수
+    private List<String> thumbnails = new ArrayList<>();   // 상품 썸네일 경로
+    private List<ReviewItem> reviews = new ArrayList<>();  // 최신 리뷰 첫 페이지
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReviewItem {
+        private Long reviewId;        // 리뷰 ID
+        private String nickname;      // 작성자 닉네임
+        private int rating;           // 평점
+        private String reviewContent; // 리뷰 내용
+        private Instant regDate;      // 작성일
+    }
+}
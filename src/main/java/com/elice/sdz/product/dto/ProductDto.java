@@ -0,0 +1,23 @@
+package com.elice.sdz.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema
+public class ProductDto {
+    private Long productId;        // 상품 ID
+    private Long categoryId;       // 카테고리 ID
+    private String userId;         // 판매자 ID
+    private String productName;    // 상품명
+    private int productCount;      // 재고 수량
+    private Double productAmount;  // 가격
+    private String productContent; // 상품 설명
+    private Instant regDate;       // 등록일
+}
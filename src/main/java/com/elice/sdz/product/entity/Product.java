@@ -1,8 +1,11 @@
 package com.elice.sdz.product.entity;
 
 import com.elice.sdz.category.entity.Category;
+import com.elice.sdz.global.web.CollectionVersionListener;
+import com.elice.sdz.global.web.VersionedCollection;
 import com.elice.sdz.image.entity.Image;
 import com.elice.sdz.inquiry.entity.Inquiry;
+import com.elice.sdz.product.event.ProductDetailChangeListener;
 import com.elice.sdz.review.entity.Review;
 import com.elice.sdz.user.entity.Users;
 import jakarta.persistence.*;
@@ -19,6 +22,8 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "product")
+@EntityListeners({ProductDetailChangeListener.class, CollectionVersionListener.class})
+@VersionedCollection("products")
 public class Product {
 
     @Id
@@ -0,0 +1,43 @@
+package com.elice.sdz.product.event;
+
+import com.elice.sdz.category.entity.Category;
+import com.elice.sdz.image.entity.Image;
+import com.elice.sdz.product.entity.Product;
+import com.elice.sdz.review.entity.Review;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+// 상품 상세 정보에 포함되는 엔티티가 바뀌면 변경 이벤트를 발행 (캐시는 이벤트를 받아 무효화)
+// 엔티티가 서비스 계층을 직접 참조하지 않도록 이벤트로만 알린다
+// (Hibernate가 Spring 빈 컨테이너를 통해 생성하므로 생성자 주입 가능)
+public class ProductDetailChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductDetailChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Product product) {
+            publish(product.getProductId());
+        } else if (entity instanceof Review review && review.getProductId() != null) {
+            publish(review.getProductId().getProductId());
+        } else if (entity instanceof Image image && image.getProductId() != null) {
+            publish(image.getProductId().getProductId());
+        } else if (entity instanceof Category) {
+            eventPublisher.publishEvent(ProductDetailChangedEvent.all());
+        }
+    }
+
+    private void publish(Long productId) {
+        if (productId != null) {
+            eventPublisher.publishEvent(new ProductDetailChangedEvent(productId));
+        }
+    }
+}
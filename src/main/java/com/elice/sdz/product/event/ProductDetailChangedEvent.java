@@ -0,0 +1,9 @@
+package com.elice.sdz.product.event;
+
+// 상품 상세 정보에 포함되는 데이터 변경 이벤트 (productId 가 null 이면 전체 상품)
+public record ProductDetailChangedEvent(Long productId) {
+
+    public static ProductDetailChangedEvent all() {
+        return new ProductDetailChangedEvent(null);
+    }
+}
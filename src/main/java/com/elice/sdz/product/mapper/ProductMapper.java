@@ -0,0 +1,19 @@
+package com.elice.sdz.product.mapper;
+
+import com.elice.sdz.global.config.MapperConfiguration;
+import com.elice.sdz.product.dto.ProductDto;
+import com.elice.sdz.product.entity.Product;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(config = MapperConfiguration.class)
+public interface ProductMapper {
+
+    @Mapping(target = "categoryId", source = "categoryId.categoryId")
+    @Mapping(target = "userId", source = "userId.userId")
+    ProductDto toDto(Product product);
+
+    List<ProductDto> toDtoList(List<Product> products);
+}
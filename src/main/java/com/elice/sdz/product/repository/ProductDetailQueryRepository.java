@@ -0,0 +1,74 @@
+package com.elice.sdz.product.repository;
+
+import com.elice.sdz.product.dto.ProductDetailDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+// 상품 상세 화면용 조회 (엔티티 그래프 대신 고정된 3개의 쿼리로 조립)
+@Repository
+public class ProductDetailQueryRepository {
+
+    private static final String PRODUCT_SQL =
+            "SELECT p.product_id, p.product_name, p.product_content, p.product_amount, p.product_count, " +
+            "c.category_id, c.category_name, COALESCE(r.review_count, 0) AS review_count, " +
+            "COALESCE(r.rating_avg, 0) AS rating_avg " +
+            "FROM product p " +
+            "JOIN category c ON c.category_id = p.category_id " +
+            "LEFT JOIN (SELECT product_id, COUNT(*) AS review_count, AVG(rating) AS rating_avg " +
+            "           FROM review WHERE product_id = ? GROUP BY product_id) r ON r.product_id = p.product_id " +
+            "WHERE p.product_id = ?";
+
+    private static final String THUMBNAIL_SQL =
+            "SELECT COALESCE(thumbnail_path, upload_path) AS path FROM image " +
+            "WHERE product_id = ? AND review_id IS NULL AND inquiry_id IS NULL " +
+            "ORDER BY image_id LIMIT ?";
+
+    private static final String REVIEW_SQL =
+            "SELECT r.review_id, u.nickname, r.rating, r.review_content, r.reg_date " +
+            "FROM review r JOIN user u ON u.user_id = r.user_id " +
+            "WHERE r.product_id = ? ORDER BY r.review_id DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductDetailQueryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<ProductDetailDto> findProductDetail(Long productId, int thumbnailLimit, int reviewPageSize) {
+        List<ProductDetailDto> products = jdbcTemplate.query(PRODUCT_SQL, (rs, rowNum) -> {
+            ProductDetailDto dto = new ProductDetailDto();
+            dto.setProductId(rs.getLong("product_id"));
+            dto.setProductName(rs.getString("product_name"));
+            dto.setProductContent(rs.getString("product_content"));
+            dto.setProductAmount(rs.getDouble("product_amount"));
+            dto.setProductCount(rs.getInt("product_count"));
+            dto.setCategoryId(rs.getLong("category_id"));
+            dto.setCategoryName(rs.getString("category_name"));
+            dto.setReviewCount(rs.getLong("review_count"));
+            dto.setRatingAverage(rs.getDouble("rating_avg"));
+            return dto;
+        }, productId, productId);
+        if (products.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ProductDetailDto detail = products.get(0);
+        detail.setThumbnails(jdbcTemplate.queryForList(THUMBNAIL_SQL, String.class, productId, thumbnailLimit));
+        if (detail.getReviewCount() > 0) {
+            detail.setReviews(jdbcTemplate.query(REVIEW_SQL, (rs, rowNum) -> {
+                Timestamp regDate = rs.getTimestamp("reg_date");
+                return new ProductDetailDto.ReviewItem(
+                        rs.getLong("review_id"),
+                        rs.getString("nickname"),
+                        rs.getInt("rating"),
+                        rs.getString("review_content"),
+                        regDate == null ? null : regDate.toInstant());
+            }, productId, reviewPageSize));
+        }
+        return Optional.of(detail);
+    }
+}
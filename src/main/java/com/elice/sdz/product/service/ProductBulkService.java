@@ -0,0 +1,395 @@
+package com.elice.sdz.product.service;
+
+import com.elice.sdz.category.service.CategoryCache;
+import com.elice.sdz.global.exception.ErrorCode;
+import com.elice.sdz.global.exception.NotFoundException;
+import com.elice.sdz.global.util.CsvReader;
+import com.elice.sdz.global.web.CollectionVersions;
+import com.elice.sdz.product.config.CatalogBulkProperties;
+import com.elice.sdz.product.dto.CatalogFormat;
+import com.elice.sdz.product.dto.ProductBulkResult;
+import com.elice.sdz.product.dto.ProductBulkRow;
+import com.elice.sdz.user.repository.UsersRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class ProductBulkService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO product (category_id, user_id, product_name, product_count, product_amount, " +
+            "product_content, reg_date) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String EXPORT_SQL =
+            "SELECT p.product_id, c.category_name, p.product_name, p.product_count, p.product_amount, " +
+            "p.product_content FROM product p JOIN category c ON c.category_id = p.category_id " +
+            "ORDER BY p.product_id";
+
+    private static final List<String> CSV_COLUMNS = List.of(
+            "productId", "categoryName", "productName", "productCount", "productAmount", "productContent");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final CategoryCache categoryCache;
+    private final UsersRepository usersRepository;
+    private final ObjectMapper objectMapper;
+    private final CatalogBulkProperties properties;
+    private final CollectionVersions collectionVersions;
+    private final ExecutorService importExecutor;
+    private final ObservationRegistry observationRegistry;
+
+    public ProductBulkService(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              CategoryCache categoryCache,
+                              UsersRepository usersRepository,
+                              ObjectMapper objectMapper,
+                              CatalogBulkProperties properties,
+                              CollectionVersions collectionVersions,
+                              ObservationRegistry observationRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.categoryCache = categoryCache;
+        this.usersRepository = usersRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.collectionVersions = collectionVersions;
+        // 요청 스레드는 레코드 분리만 하고, 변환/검증/등록은 전용 풀에서 청크 단위로 병렬 처리
+        // 작업 스레드에서도 요청의 트레이스가 이어지도록 컨텍스트를 전달
+        ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+        this.importExecutor = ContextExecutorService.wrap(Executors.newFixedThreadPool(properties.getImportThreads(),
+                new CustomizableThreadFactory("catalog-import-")), snapshotFactory::captureAll);
+        this.observationRegistry = observationRegistry;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        importExecutor.shutdown();
+    }
+
+    public ProductBulkResult importCatalog(InputStream in, CatalogFormat format, String sellerId) throws IOException { //상품 대량 등록
+        if (!usersRepository.existsById(sellerId)) {
+            throw NotFoundException.of(ErrorCode.USER_NOT_FOUND);
+        }
+        ImportRun run = new ImportRun(sellerId);
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            if (format == CatalogFormat.CSV) {
+                readCsv(reader, run);
+            } else {
+                readJsonLines(reader, run);
+            }
+        } finally {
+            run.awaitCompletion();
+            // JDBC 로 직접 등록하므로 엔티티 리스너 대신 여기서 상품 목록 버전을 올림
+            if (run.inserted.get() > 0) {
+                collectionVersions.bump("products");
+            }
+        }
+        return run.toResult();
+    }
+
+    public void exportCatalog(OutputStream out, CatalogFormat format) throws IOException { //상품 전체 내보내기
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        if (format == CatalogFormat.CSV) {
+            writer.write(String.join(",", CSV_COLUMNS));
+            writer.write('\n');
+        }
+        RowCallbackHandler rowWriter = rs -> {
+            try {
+                writeRow(writer, format, toRow(rs));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        try {
+            // 전체 목록을 메모리에 올리지 않도록 forward-only 커서로 한 행씩 기록
+            readOnlyTransactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(EXPORT_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(properties.getExportFetchSize());
+                return ps;
+            }, rowWriter));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void readCsv(Reader reader, ImportRun run) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : CSV_COLUMNS.subList(1, CSV_COLUMNS.size())) {
+            if (!columns.containsKey(required.toLowerCase(Locale.ROOT))) {
+                run.reject(csv.getRecordLineNumber(), "Missing column: " + required);
+                return;
+            }
+        }
+        RowParser parser = raw -> fromCsv(raw.fields(), columns);
+
+        List<RawRecord> chunk = new ArrayList<>(properties.getChunkSize());
+        List<String> fields;
+        while ((fields = csv.readRecord()) != null) {
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            chunk.add(new RawRecord(csv.getRecordLineNumber(), fields, null));
+            if (chunk.size() >= properties.getChunkSize()) {
+                run.submit(chunk, parser);
+                chunk = new ArrayList<>(properties.getChunkSize());
+            }
+        }
+        run.submit(chunk, parser);
+    }
+
+    private void readJsonLines(Reader reader, ImportRun run) throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        RowParser parser = raw -> objectMapper.readValue(raw.json(), ProductBulkRow.class);
+
+        List<RawRecord> chunk = new ArrayList<>(properties.getChunkSize());
+        long lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            chunk.add(new RawRecord(lineNumber, null, line));
+            if (chunk.size() >= properties.getChunkSize()) {
+                run.submit(chunk, parser);
+                chunk = new ArrayList<>(properties.getChunkSize());
+            }
+        }
+        run.submit(chunk, parser);
+    }
+
+    private ProductBulkRow fromCsv(List<String> fields, Map<String, Integer> columns) {
+        ProductBulkRow row = new ProductBulkRow();
+        row.setCategoryName(field(fields, columns, "categoryname"));
+        row.setProductName(field(fields, columns, "productname"));
+        String count = field(fields, columns, "productcount");
+        row.setProductCount(count == null ? null : Integer.valueOf(count.trim()));
+        String amount = field(fields, columns, "productamount");
+        row.setProductAmount(amount == null ? null : Double.valueOf(amount.trim()));
+        row.setProductContent(field(fields, columns, "productcontent"));
+        return row;
+    }
+
+    private String field(List<String> fields, Map<String, Integer> columns, String column) {
+        int index = columns.get(column);
+        if (index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    private void validate(ProductBulkRow row) {
+        if (row.getCategoryName() == null || row.getCategoryName().isBlank()) {
+            throw new IllegalArgumentException("categoryName is required");
+        }
+        if (row.getProductName() == null || row.getProductName().isBlank() || row.getProductName().length() > 50) {
+            throw new IllegalArgumentException("productName must be 1-50 characters");
+        }
+        if (row.getProductCount() == null || row.getProductCount() < 0) {
+            throw new IllegalArgumentException("productCount must be zero or positive");
+        }
+        if (row.getProductAmount() == null || row.getProductAmount() < 0) {
+            throw new IllegalArgumentException("productAmount must be zero or positive");
+        }
+        if (row.getProductContent() == null || row.getProductContent().length() > 3000) {
+            throw new IllegalArgumentException("productContent is required (max 3000 characters)");
+        }
+    }
+
+    private ProductBulkRow toRow(ResultSet rs) throws java.sql.SQLException {
+        return new ProductBulkRow(
+                rs.getLong("product_id"),
+                rs.getString("category_name"),
+                rs.getString("product_name"),
+                rs.getInt("product_count"),
+                rs.getDouble("product_amount"),
+                rs.getString("product_content"));
+    }
+
+    private void writeRow(Writer writer, CatalogFormat format, ProductBulkRow row) throws IOException {
+        if (format == CatalogFormat.CSV) {
+            writer.write(String.valueOf(row.getProductId()));
+            writer.write(',');
+            writer.write(CsvReader.escape(row.getCategoryName()));
+            writer.write(',');
+            writer.write(CsvReader.escape(row.getProductName()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getProductCount()));
+            writer.write(',');
+            // 큰 금액이 지수 표기(1.2E7)로 나가지 않도록
+            writer.write(BigDecimal.valueOf(row.getProductAmount()).toPlainString());
+            writer.write(',');
+            writer.write(CsvReader.escape(row.getProductContent()));
+        } else {
+            writer.write(objectMapper.writeValueAsString(row));
+        }
+        writer.write('\n');
+    }
+
+    private record RawRecord(long line, List<String> fields, String json) {
+    }
+
+    private record PreparedRow(long line, long categoryId, ProductBulkRow row) {
+    }
+
+    @FunctionalInterface
+    private interface RowParser {
+        ProductBulkRow parse(RawRecord raw) throws IOException;
+    }
+
+    // 한 번의 import 요청 상태 (동시에 처리 중인 청크 수를 제한해 메모리를 일정하게 유지)
+    private final class ImportRun {
+
+        private final String sellerId;
+        private final Semaphore inFlight = new Semaphore(properties.getMaxInFlightChunks());
+        private final List<Future<?>> futures = new ArrayList<>();
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<ProductBulkResult.RowError> errors = Collections.synchronizedList(new ArrayList<>());
+
+        private ImportRun(String sellerId) {
+            this.sellerId = sellerId;
+        }
+
+        private void submit(List<RawRecord> chunk, RowParser parser) throws IOException {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            total.addAndGet(chunk.size());
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Catalog import interrupted");
+            }
+            try {
+                futures.add(importExecutor.submit(() -> {
+                    try {
+                        Observation.createNotStarted("sdz.catalog.import.chunk", observationRegistry)
+                                .highCardinalityKeyValue("rows", String.valueOf(chunk.size()))
+                                .observe(() -> processChunk(chunk, parser));
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                inFlight.release();
+                throw e;
+            }
+        }
+
+        private void processChunk(List<RawRecord> chunk, RowParser parser) {
+            List<PreparedRow> rows = new ArrayList<>(chunk.size());
+            for (RawRecord raw : chunk) {
+                try {
+                    ProductBulkRow row = parser.parse(raw);
+                    validate(row);
+                    long categoryId = categoryCache.findIdByName(row.getCategoryName())
+                            .orElseThrow(() -> new IllegalArgumentException("Unknown category: " + row.getCategoryName()));
+                    rows.add(new PreparedRow(raw.line(), categoryId, row));
+                } catch (IllegalArgumentException | IOException e) {
+                    reject(raw.line(), e.getMessage());
+                } catch (RuntimeException e) {
+                    log.warn("Unexpected error converting catalog line {}", raw.line(), e);
+                    reject(raw.line(), "Invalid row: " + e);
+                }
+            }
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            Timestamp now = Timestamp.from(Instant.now());
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate(INSERT_SQL, rows, properties.getInsertBatchSize(), (ps, prepared) -> {
+                            ProductBulkRow row = prepared.row();
+                            ps.setLong(1, prepared.categoryId());
+                            ps.setString(2, sellerId);
+                            ps.setString(3, row.getProductName());
+                            ps.setInt(4, row.getProductCount());
+                            ps.setDouble(5, row.getProductAmount());
+                            ps.setString(6, row.getProductContent());
+                            ps.setTimestamp(7, now);
+                        }));
+                inserted.addAndGet(rows.size());
+            } catch (RuntimeException e) {
+                // 제약 조건 위반뿐 아니라 트랜잭션 시작 실패 등도 청크 실패로 집계 (total = inserted + failed)
+                log.warn("Catalog import chunk starting at line {} rolled back", rows.get(0).line(), e);
+                String cause = e instanceof DataAccessException dataAccessException
+                        ? dataAccessException.getMostSpecificCause().getMessage() : e.toString();
+                failed.addAndGet(rows.size());
+                addError(rows.get(0).line(), "Chunk of " + rows.size() + " rows rolled back: " + cause);
+            }
+        }
+
+        private void reject(long line, String message) {
+            failed.incrementAndGet();
+            addError(line, message);
+        }
+
+        private void addError(long line, String message) {
+            synchronized (errors) {
+                if (errors.size() < properties.getMaxReportedErrors()) {
+                    errors.add(new ProductBulkResult.RowError(line, message));
+                }
+            }
+        }
+
+        private void awaitCompletion() throws IOException {
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Catalog import interrupted");
+                } catch (ExecutionException e) {
+                    log.error("Catalog import chunk failed", e.getCause());
+                }
+            }
+        }
+
+        private ProductBulkResult toResult() {
+            List<ProductBulkResult.RowError> sorted = new ArrayList<>(errors);
+            sorted.sort(Comparator.comparingLong(ProductBulkResult.RowError::getLine));
+            return new ProductBulkResult(total.get(), inserted.get(), failed.get(), sorted);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.elice.sdz.product.service;
+
+import com.elice.sdz.product.config.ProductDetailProperties;
+import com.elice.sdz.product.event.ProductDetailChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 직렬화된 상품 상세 JSON 캐시
+// 조회 전에 버전을 먼저 읽고, 저장 시 그 버전을 함께 기록한다.
+// 조회 도중 변경이 커밋되면 버전이 올라가므로 오래된 값은 다음 조회에서 자연히 무시된다.
+// 버전은 상품 ID 를 고정 개수 슬롯에 나눠 담아 메모리가 상품 수와 무관하게 일정하다.
+// 슬롯 버전은 줄어들지 않으므로 같은 슬롯의 다른 상품이 바뀌면 캐시 미스가 한 번 더 날 뿐 오래된 값은 반환되지 않는다.
+@Component
+public class ProductDetailCache {
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final int maxEntries;
+    private final Map<Long, Entry> entries;
+    private final AtomicLongArray versionSlots;
+    private final int slotMask;
+    private final AtomicLong epoch = new AtomicLong(); // 카테고리 변경 등 전체 무효화용
+
+    public ProductDetailCache(ProductDetailProperties properties) {
+        this.maxEntries = properties.getCacheMaxEntries();
+        int slots = Integer.highestOneBit(Math.max(1, properties.getVersionSlots() - 1)) << 1;
+        this.versionSlots = new AtomicLongArray(slots);
+        this.slotMask = slots - 1;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public Stamp currentStamp(Long productId) {
+        return new Stamp(epoch.get(), versionSlots.get(slot(productId)));
+    }
+
+    // 상품별 약한 ETag (다른 상품의 변경에는 바뀌지 않음), 인스턴스 간 충돌을 막기 위해 부팅 ID 포함
+    public String etag(Long productId, Stamp stamp) {
+        return "W/\"product-" + productId + "-" + bootId + "-" + stamp.epoch() + "." + stamp.version() + "\"";
+    }
+
+    public byte[] get(Long productId, Stamp stamp) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(productId);
+        }
+        return entry != null && entry.stamp().equals(stamp) ? entry.json() : null;
+    }
+
+    public void put(Long productId, Stamp stamp, byte[] json) {
+        synchronized (entries) {
+            entries.put(productId, new Entry(stamp, json));
+        }
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤에 무효화 (커밋 전 데이터가 새 버전으로 캐시되지 않도록)
+    public void invalidate(Long productId) {
+        if (productId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            versionSlots.incrementAndGet(slot(productId));
+            synchronized (entries) {
+                entries.remove(productId);
+            }
+        });
+    }
+
+    public void invalidateAll() {
+        afterCommit(() -> {
+            epoch.incrementAndGet();
+            synchronized (entries) {
+                entries.clear();
+            }
+        });
+    }
+
+    @EventListener
+    public void onProductDetailChanged(ProductDetailChangedEvent event) {
+        if (event.productId() == null) {
+            invalidateAll();
+        } else {
+            invalidate(event.productId());
+        }
+    }
+
+    private int slot(Long productId) {
+        return Long.hashCode(productId * 0x9E3779B97F4A7C15L) & slotMask;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    public record Stamp(long epoch, long version) {
+    }
+
+    private record Entry(Stamp stamp, byte[] json) {
+    }
+}
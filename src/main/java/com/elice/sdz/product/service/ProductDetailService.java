@@ -0,0 +1,51 @@
+package com.elice.sdz.product.service;
+
+import com.elice.sdz.global.exception.ErrorCode;
+import com.elice.sdz.global.exception.NotFoundException;
+import com.elice.sdz.product.config.ProductDetailProperties;
+import com.elice.sdz.product.dto.ProductDetailDto;
+import com.elice.sdz.product.repository.ProductDetailQueryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ProductDetailService {
+
+    private final ProductDetailQueryRepository productDetailQueryRepository;
+    private final ProductDetailCache productDetailCache;
+    private final ProductDetailProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public ProductDetailService(ProductDetailQueryRepository productDetailQueryRepository,
+                                ProductDetailCache productDetailCache,
+                                ProductDetailProperties properties,
+                                ObjectMapper objectMapper) {
+        this.productDetailQueryRepository = productDetailQueryRepository;
+        this.productDetailCache = productDetailCache;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    // 캐시 적중 시 직렬화 없이 저장된 JSON 바이트를 그대로 반환
+    // ETag 는 조회 전에 읽은 버전으로 만들고, 없는 상품은 ETag 비교 전에 404 가 되도록 캐시/DB 에서 먼저 확인한다
+    @Transactional(readOnly = true)
+    public DetailJson getProductDetail(Long productId) throws JsonProcessingException { //상품 상세조회
+        ProductDetailCache.Stamp stamp = productDetailCache.currentStamp(productId);
+        String etag = productDetailCache.etag(productId, stamp);
+        byte[] cached = productDetailCache.get(productId, stamp);
+        if (cached != null) {
+            return new DetailJson(etag, cached);
+        }
+        ProductDetailDto detail = productDetailQueryRepository
+                .findProductDetail(productId, properties.getThumbnailLimit(), properties.getReviewPageSize())
+                .orElseThrow(() -> NotFoundException.of(ErrorCode.PRODUCT_NOT_FOUND));
+        byte[] json = objectMapper.writeValueAsBytes(detail);
+        productDetailCache.put(productId, stamp, json);
+        return new DetailJson(etag, json);
+    }
+
+    public record DetailJson(String etag, byte[] json) {
+    }
+}
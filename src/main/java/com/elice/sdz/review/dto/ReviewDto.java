@@ -0,0 +1,21 @@
+package com.elice.sdz.review.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema
+public class ReviewDto {
+    private Long reviewId;        // 리뷰 ID
+    private String userId;        // 작성자 ID
+    private Long productId;       // 상품 ID
+    private int rating;           // 평점
+    private String reviewContent; // 리뷰 내용
+    private Instant regDate;      // 작성일
+}
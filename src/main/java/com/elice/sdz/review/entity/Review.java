@@ -1,7 +1,10 @@
 package com.elice.sdz.review.entity;
 
+import com.elice.sdz.global.web.CollectionVersionListener;
+import com.elice.sdz.global.web.VersionedCollection;
 import com.elice.sdz.image.entity.Image;
 import com.elice.sdz.product.entity.Product;
+import com.elice.sdz.product.event.ProductDetailChangeListener;
 import com.elice.sdz.user.entity.Users;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -19,6 +22,8 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "review")
+@EntityListeners({ProductDetailChangeListener.class, CollectionVersionListener.class})
+@VersionedCollection("products")
 public class Review {
 
     @Id
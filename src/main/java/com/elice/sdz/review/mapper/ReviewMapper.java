@@ -0,0 +1,19 @@
+package com.elice.sdz.review.mapper;
+
+import com.elice.sdz.global.config.MapperConfiguration;
+import com.elice.sdz.review.dto.ReviewDto;
+import com.elice.sdz.review.entity.Review;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(config = MapperConfiguration.class)
+public interface ReviewMapper {
+
+    @Mapping(target = "userId", source = "userId.userId")
+    @Mapping(target = "productId", source = "productId.productId")
+    ReviewDto toDto(Review review);
+
+    List<ReviewDto> toDtoList(List<Review> reviews);
+}
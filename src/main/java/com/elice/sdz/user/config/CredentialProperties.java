@@ -0,0 +1,16 @@
+package com.elice.sdz.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sdz.credential")
+public class CredentialProperties {
+    private int bcryptStrength = 10;                      // bcrypt 비용 (2^n 라운드, gradle jmh 의 PasswordHashBenchmark 로 결정)
+    private int hashThreads = 2;                          // 해시 전용 스레드 수 (코어 수 이하)
+    private int queueCapacity = 64;                       // 대기 가능한 해시 작업 수 (초과 시 429)
+    private Duration maxWait = Duration.ofSeconds(2);     // 요청 스레드가 해시 결과를 기다리는 최대 시간
+    private boolean acceptLegacyPlaintext = true;         // 접두사 없는 이전 평문 비밀번호 허용 (로그인 성공 시 해시로 교체)
+}
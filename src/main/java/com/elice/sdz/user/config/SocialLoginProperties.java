@@ -0,0 +1,16 @@
+package com.elice.sdz.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sdz.social-login")
+public class SocialLoginProperties {
+    private int cacheMaxEntries = 50000;                 // (제공자, 제공자 ID) -> 회원 ID 캐시 크기
+    private Duration cacheTtl = Duration.ofMinutes(30);  // 회원 삭제/연결 해제가 캐시에 반영되기까지의 최대 시간
+    // 제공자가 확인한 이메일이 기존 일반 회원과 같으면 그 계정에 연결.
+    // 일반 회원 가입은 이메일을 확인하지 않으므로 켜면 남의 이메일로 먼저 가입한 계정에 피해자의 소셜 로그인이 연결될 수 있다
+    private boolean linkVerifiedEmail = false;
+}
@@ -0,0 +1,10 @@
+package com.elice.sdz.user.dto;
+
+public record SocialLoginResult(String userId, Resolution resolution) {
+
+    public enum Resolution {
+        EXISTING, // 이미 연결된 계정
+        LINKED,   // 같은 이메일의 기존 계정에 새로 연결
+        CREATED   // 새 계정 생성
+    }
+}
@@ -0,0 +1,6 @@
+package com.elice.sdz.user.dto;
+
+// OAuth 제공자에게서 받은 회원 정보 (emailVerified 는 제공자가 이메일 소유를 확인했는지 여부)
+public record SocialProfile(String provider, String providerId, String email, boolean emailVerified,
+                            String name, String nickname, String profileUrl) {
+}
@@ -9,7 +9,10 @@ import lombok.NoArgsConstructor;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "social_users")
+// 소셜 로그인 콜백마다 (제공자, 제공자 ID) 로 연결된 회원을 찾으므로 유니크 복합 인덱스로 조회하고,
+// 동시에 처음 로그인해도 같은 계정이 두 번 연결되지 않도록 한다
+@Table(name = "social_users", uniqueConstraints = @UniqueConstraint(
+        name = "uk_social_provider_id", columnNames = {"social_provider", "social_provider_id"}))
 public class SocialUsers {
 
     @Id
@@ -17,7 +20,7 @@ public class SocialUsers {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long socialId;
 
-    @OneToOne
+    @ManyToOne // 한 회원에 여러 제공자를 연결할 수 있음
     @JoinColumn(name = "user_id", nullable = false)
     private Users userId;
 
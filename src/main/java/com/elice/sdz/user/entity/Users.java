@@ -17,14 +17,14 @@ import java.util.List;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "user")
+@Table(name = "user", indexes = @Index(name = "idx_user_email", columnList = "email"))
 public class Users {
 
     @Id
     @Column(name = "user_id", length = 50)
     private String userId;
 
-    @Column(name = "user_password", length = 20)
+    @Column(name = "user_password", length = 100) // {bcrypt}$2a$... 형식의 해시 (이전 평문 값은 로그인 시 해시로 교체)
     private String userPassword;
 
     @Enumerated(EnumType.STRING)
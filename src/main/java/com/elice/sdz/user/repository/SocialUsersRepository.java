@@ -0,0 +1,18 @@
+package com.elice.sdz.user.repository;
+
+import com.elice.sdz.user.entity.SocialUsers;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SocialUsersRepository extends JpaRepository<SocialUsers, Long> {
+
+    // 회원 엔티티를 읽지 않고 uk_social_provider_id 인덱스만으로 연결된 회원 ID 를 조회
+    @Query("SELECT s.userId.userId FROM SocialUsers s " +
+            "WHERE s.socialProvider = :provider AND s.socialProviderId = :providerId")
+    Optional<String> findUserId(@Param("provider") String provider, @Param("providerId") String providerId);
+}
@@ -0,0 +1,9 @@
+package com.elice.sdz.user.repository;
+
+import com.elice.sdz.user.entity.Users;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UsersRepository extends JpaRepository<Users, String> {
+}
@@ -0,0 +1,202 @@
+package com.elice.sdz.user.service;
+
+import com.elice.sdz.global.exception.BusinessException;
+import com.elice.sdz.global.exception.ErrorCode;
+import com.elice.sdz.global.exception.NotFoundException;
+import com.elice.sdz.user.config.CredentialProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 비밀번호 해시/검증
+// - bcrypt 는 의도적으로 느리므로 요청 스레드에서 바로 계산하지 않고 크기 제한 전용 풀에서 실행
+//   동시에 계산하는 해시 수가 hashThreads 로 묶여 로그인 폭주 시에도 다른 API 의 CPU 를 빼앗지 않고,
+//   대기열이 차거나 maxWait 안에 끝나지 않으면 429 로 빨리 거절한다
+// - 저장 형식은 {bcrypt}$2a$10$... 이고, 비용이 바뀌었거나 이전 평문 값이면 로그인 성공 시 다시 해시해 교체
+@Slf4j
+@Service
+public class CredentialService {
+
+    private static final String ENCODING_ID = "bcrypt";
+
+    private static final String FIND_PASSWORD_SQL =
+            "SELECT user_password FROM user WHERE user_id = ? AND social = 0";
+
+    private static final String UPDATE_PASSWORD_SQL =
+            "UPDATE user SET user_password = ? WHERE user_id = ? AND social = 0";
+
+    // 검증 사이에 비밀번호가 바뀌었으면 덮어쓰지 않음
+    private static final String REHASH_PASSWORD_SQL =
+            "UPDATE user SET user_password = ? WHERE user_id = ? AND user_password = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CredentialProperties properties;
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor hashExecutor;
+    private final String dummyHash;
+
+    @Autowired
+    public CredentialService(JdbcTemplate jdbcTemplate, CredentialProperties properties) {
+        this(jdbcTemplate, properties, createEncoder(properties));
+    }
+
+    CredentialService(JdbcTemplate jdbcTemplate, CredentialProperties properties, PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.passwordEncoder = passwordEncoder;
+        this.hashExecutor = new ThreadPoolExecutor(properties.getHashThreads(), properties.getHashThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("credential-hash-"), new ThreadPoolExecutor.AbortPolicy());
+        // 없는 회원도 같은 비용으로 비교해 응답 시간으로 회원 존재 여부가 드러나지 않도록 함
+        this.dummyHash = passwordEncoder.encode("sdz-dummy-password");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    public String hash(String rawPassword) { //비밀번호 해시
+        requirePassword(rawPassword);
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public void changePassword(String userId, String rawPassword) { //비밀번호 변경
+        String encoded = hash(rawPassword);
+        if (jdbcTemplate.update(UPDATE_PASSWORD_SQL, encoded, userId) == 0) {
+            throw NotFoundException.of(ErrorCode.USER_NOT_FOUND);
+        }
+    }
+
+    public boolean verify(String userId, String rawPassword) { //비밀번호 확인 (필요하면 다시 해시해 교체)
+        if (rawPassword == null || rawPassword.isEmpty()) {
+            return false;
+        }
+        List<String> stored = jdbcTemplate.queryForList(FIND_PASSWORD_SQL, String.class, userId);
+        String encoded = stored.isEmpty() ? null : stored.get(0);
+        if (encoded == null) {
+            execute(() -> passwordEncoder.matches(rawPassword, dummyHash));
+            return false;
+        }
+        boolean matched = execute(() -> matches(rawPassword, encoded));
+        if (matched && passwordEncoder.upgradeEncoding(encoded)) {
+            rehash(userId, rawPassword, encoded);
+        }
+        return matched;
+    }
+
+    public boolean needsRehash(String encoded) {
+        return passwordEncoder.upgradeEncoding(encoded);
+    }
+
+    private boolean matches(String rawPassword, String encoded) {
+        try {
+            return passwordEncoder.matches(rawPassword, encoded);
+        } catch (IllegalArgumentException e) {
+            // 알 수 없는 형식 (평문 허용을 끈 뒤 남은 이전 값 등)
+            log.warn("Unsupported password encoding: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void rehash(String userId, String rawPassword, String previous) {
+        try {
+            String upgraded = execute(() -> passwordEncoder.encode(rawPassword));
+            if (jdbcTemplate.update(REHASH_PASSWORD_SQL, upgraded, userId, previous) > 0) {
+                log.debug("Upgraded password hash for {}", userId);
+            }
+        } catch (BusinessException e) {
+            // 로그인은 이미 성공했으므로 교체는 다음 로그인으로 미룸
+            log.debug("Skipped password rehash for {}: {}", userId, e.getErrorCode());
+        } catch (DataAccessException e) {
+            // user_password 가 아직 varchar(20) 인 스키마 등, 저장 실패로 로그인을 실패시키지 않는다
+            log.warn("Failed to store rehashed password for {}: {}", userId, e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = hashExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new BusinessException(ErrorCode.SERVER_OVERLOADED);
+        }
+        try {
+            return future.get(properties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            cancel(future);
+            throw new BusinessException(ErrorCode.SERVER_OVERLOADED);
+        } catch (InterruptedException e) {
+            cancel(future);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SERVER_OVERLOADED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 취소만 하면 작업이 워커가 꺼낼 때까지 대기열 자리를 차지하므로 바로 뺀다
+    private void cancel(Future<?> future) {
+        future.cancel(true);
+        hashExecutor.remove((Runnable) future);
+    }
+
+    int queuedHashes() { //대기 중인 해시 작업 수
+        return hashExecutor.getQueue().size();
+    }
+
+    // bcrypt 는 72 바이트 이후를 무시하므로 그보다 긴 비밀번호는 받지 않는다
+    private static void requirePassword(String rawPassword) {
+        if (rawPassword == null || rawPassword.isEmpty()
+                || rawPassword.getBytes(StandardCharsets.UTF_8).length > 72) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "password must be 1 to 72 bytes.");
+        }
+    }
+
+    private static PasswordEncoder createEncoder(CredentialProperties properties) {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(ENCODING_ID,
+                Map.of(ENCODING_ID, new BCryptPasswordEncoder(properties.getBcryptStrength())));
+        if (properties.isAcceptLegacyPlaintext()) {
+            encoder.setDefaultPasswordEncoderForMatches(new LegacyPlaintextEncoder());
+        }
+        return encoder;
+    }
+
+    // 해시 도입 전에 저장된 접두사 없는 평문 값 비교 전용 (새 값을 만드는 데는 쓰지 않음)
+    private static final class LegacyPlaintextEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            throw new UnsupportedOperationException("Plaintext passwords are no longer stored");
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return MessageDigest.isEqual(rawPassword.toString().getBytes(StandardCharsets.UTF_8),
+                    encodedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.elice.sdz.user.service;
+
+import com.elice.sdz.global.exception.ErrorCode;
+import com.elice.sdz.global.exception.InvalidValueException;
+import com.elice.sdz.user.config.SocialLoginProperties;
+import com.elice.sdz.user.dto.SocialLoginResult;
+import com.elice.sdz.user.dto.SocialLoginResult.Resolution;
+import com.elice.sdz.user.dto.SocialProfile;
+import com.elice.sdz.user.repository.SocialUsersRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 소셜 로그인 콜백에서 (제공자, 제공자 ID) 를 회원 ID 로 변환
+// - 최근 결과는 크기 제한 캐시에서 바로 반환 (DB 조회 없음)
+// - 캐시에 없으면 uk_social_provider_id 인덱스로 한 번 조회하고, 연결이 없으면 그때 계정을 만든다
+// - 같은 계정의 동시 첫 로그인은 인스턴스 안에서는 한 요청만 DB 에 가고 나머지는 그 결과를 기다린다
+// - 인스턴스 간 경합은 uk_social_provider_id 로 한쪽 연결만 성공시키고, 진 쪽은 회원 생성까지 롤백한 뒤 승자의 연결을 다시 읽는다
+// - 새 회원 ID 는 무작위 값을 붙여 만들어 일반 회원이 고른 ID 와 겹치지 않게 한다
+@Slf4j
+@Service
+public class SocialLoginService {
+
+    private static final int MAX_ID_LENGTH = 50;
+    private static final int MAX_NAME_LENGTH = 20;
+    private static final int MAX_CREATE_ATTEMPTS = 3;
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO user (user_id, user_auth, user_name, nickname, reg_date, email, login_lock, " +
+            "login_attempts, social, profile_url) VALUES (?, 'ROLE_USER', ?, ?, ?, ?, 0, 0, 1, ?)";
+
+    private static final String INSERT_LINK_SQL =
+            "INSERT INTO social_users (user_id, social_provider, social_provider_id) VALUES (?, ?, ?)";
+
+    // 같은 이메일의 일반 회원이 정확히 한 명일 때만 연결 (idx_user_email)
+    private static final String FIND_BY_EMAIL_SQL =
+            "SELECT user_id FROM user WHERE email = ? AND social = 0 ORDER BY user_id LIMIT 2";
+
+    private final SocialUsersRepository socialUsersRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SocialLoginProperties properties;
+    private final Map<String, CachedLink> cache;
+    private final Map<String, CompletableFuture<SocialLoginResult>> inFlight = new ConcurrentHashMap<>();
+
+    public SocialLoginService(SocialUsersRepository socialUsersRepository,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              SocialLoginProperties properties) {
+        this.socialUsersRepository = socialUsersRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        int maxEntries = properties.getCacheMaxEntries();
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedLink> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public SocialLoginResult resolve(SocialProfile profile) { //소셜 계정에 연결된 회원 조회 (없으면 연결/생성)
+        String provider = requireId(profile.provider(), "provider").toLowerCase(Locale.ROOT);
+        String providerId = requireId(profile.providerId(), "providerId");
+        String key = provider + ':' + providerId;
+
+        String cached = getCached(key);
+        if (cached != null) {
+            return new SocialLoginResult(cached, Resolution.EXISTING);
+        }
+
+        CompletableFuture<SocialLoginResult> pending = new CompletableFuture<>();
+        CompletableFuture<SocialLoginResult> leader = inFlight.putIfAbsent(key, pending);
+        if (leader != null) {
+            return await(leader);
+        }
+        try {
+            SocialLoginResult result = lookupOrCreate(profile, provider, providerId);
+            putCached(key, result.userId());
+            pending.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    // 연결 해제/회원 탈퇴 시 호출
+    public void evict(String provider, String providerId) {
+        synchronized (cache) {
+            cache.remove(provider.toLowerCase(Locale.ROOT) + ':' + providerId);
+        }
+    }
+
+    private SocialLoginResult lookupOrCreate(SocialProfile profile, String provider, String providerId) {
+        Optional<String> linked = socialUsersRepository.findUserId(provider, providerId);
+        if (linked.isPresent()) {
+            return new SocialLoginResult(linked.get(), Resolution.EXISTING);
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> linkOrCreate(profile, provider, providerId));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 먼저 같은 계정을 만들었거나 연결함
+                Optional<String> winner = socialUsersRepository.findUserId(provider, providerId);
+                if (winner.isPresent()) {
+                    log.debug("Concurrent social login for {}:{}, using the winner's link", provider, providerId);
+                    return new SocialLoginResult(winner.get(), Resolution.EXISTING);
+                }
+                // 연결이 없으면 생성한 회원 ID 가 기존 ID 와 겹친 경우이므로 새 ID 로 다시 시도
+                if (attempt >= MAX_CREATE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private SocialLoginResult linkOrCreate(SocialProfile profile, String provider, String providerId) {
+        String email = profile.email() == null ? "" : profile.email().trim();
+        String userId = null;
+        Resolution resolution = Resolution.CREATED;
+        if (properties.isLinkVerifiedEmail() && profile.emailVerified() && !email.isEmpty()) {
+            List<String> matches = jdbcTemplate.queryForList(FIND_BY_EMAIL_SQL, String.class, email);
+            if (matches.size() == 1) {
+                userId = matches.get(0);
+                resolution = Resolution.LINKED;
+            }
+        }
+        if (userId == null) {
+            userId = newUserId(provider);
+            // 이메일을 주지 않는 제공자도 있으므로 그 경우 빈 값으로 둔다
+            jdbcTemplate.update(INSERT_USER_SQL, userId, truncate(profile.name()), truncate(profile.nickname()),
+                    Timestamp.from(Instant.now()), email.length() > MAX_ID_LENGTH ? "" : email, profile.profileUrl());
+        }
+        jdbcTemplate.update(INSERT_LINK_SQL, userId, provider, providerId);
+        return new SocialLoginResult(userId, resolution);
+    }
+
+    // 제공자 이름 + 무작위 값 (일반 회원 ID 나 다른 소셜 회원 ID 와 겹치지 않도록)
+    private String newUserId(String provider) {
+        String prefix = provider.length() > 20 ? provider.substring(0, 20) : provider;
+        return prefix + "_" + UUID.randomUUID().toString().replace("-", "").substring(0, 24);
+    }
+
+    private String getCached(String key) {
+        CachedLink link;
+        synchronized (cache) {
+            link = cache.get(key);
+        }
+        if (link == null) {
+            return null;
+        }
+        if (link.expiresAtNanos() - System.nanoTime() <= 0) {
+            synchronized (cache) {
+                cache.remove(key, link);
+            }
+            return null;
+        }
+        return link.userId();
+    }
+
+    private void putCached(String key, String userId) {
+        CachedLink link = new CachedLink(userId, System.nanoTime() + properties.getCacheTtl().toNanos());
+        synchronized (cache) {
+            cache.put(key, link);
+        }
+    }
+
+    private SocialLoginResult await(CompletableFuture<SocialLoginResult> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String requireId(String value, String name) {
+        if (value == null || value.isBlank() || value.length() > MAX_ID_LENGTH) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT,
+                    name + " must be 1 to " + MAX_ID_LENGTH + " characters.");
+        }
+        return value;
+    }
+
+    private static String truncate(String value) {
+        return value == null || value.length() <= MAX_NAME_LENGTH ? value : value.substring(0, MAX_NAME_LENGTH);
+    }
+
+    private record CachedLink(String userId, long expiresAtNanos) {
+    }
+}
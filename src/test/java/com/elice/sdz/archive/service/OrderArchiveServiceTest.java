@@ -0,0 +1,164 @@
+package com.elice.sdz.archive.service;
+
+import com.elice.sdz.archive.config.OrderArchiveProperties;
+import com.elice.sdz.archive.dto.ArchiveResult;
+import com.elice.sdz.global.web.CollectionVersions;
+import com.elice.sdz.order.dto.OrderDto;
+import com.elice.sdz.order.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "sdz.archive.order.chunk-size=1")
+class OrderArchiveServiceTest {
+
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OrderArchiveProperties properties;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    private final Timestamp old = Timestamp.from(Instant.now().minus(Duration.ofDays(400)));
+    private final Timestamp recent = Timestamp.from(Instant.now().minus(Duration.ofDays(10)));
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_auth, reg_date, email, login_lock, login_attempts, social) " +
+                "VALUES ('archiver', 'ROLE_USER', ?, 'archiver@sdz.com', 0, 0, 0)", old);
+        jdbcTemplate.update("INSERT INTO delivery_address (delivery_address_id, user_id, delivery_address1, " +
+                "delivery_address2, delivery_address3, receiver_name, receiver_contact, delivery_request, default_check) " +
+                "VALUES (9001, 'archiver', '12345', 'Seoul', '101', 'kim', '010', 'door', 0)");
+
+        insertOrder(9001, old, "DELIVERYPROCESSED");  // 보관 대상
+        insertOrder(9002, old, "PENDING");            // 진행 중
+        insertOrder(9003, recent, "DELIVERYPROCESSED"); // 기준일 이전 아님
+        insertOrder(9004, old, "REFUNDPROCESSED");    // 환불 진행 중
+        insertOrder(9005, old, "REFUNDPROCESSED");    // 보관 대상
+
+        jdbcTemplate.update("INSERT INTO payment (payment_id, order_id, payment_amount, payment_method, reg_date, " +
+                "payment_status) VALUES (9001, 9001, 100.0, 'CARD', ?, 'SUCCESS')", old);
+        jdbcTemplate.update("INSERT INTO payment (payment_id, order_id, payment_amount, payment_method, reg_date, " +
+                "payment_status) VALUES (9004, 9004, 100.0, 'CARD', ?, 'SUCCESS')", old);
+        jdbcTemplate.update("INSERT INTO delivery (delivery_id, delivery_address_id, order_id, reg_date, " +
+                "delivery_status) VALUES (9001, 9001, 9001, ?, 'PROCESSED')", old);
+        jdbcTemplate.update("INSERT INTO refund (refund_id, order_id, payment_id, refund_amount, refund_reason, " +
+                "reg_date, refund_status) VALUES (9004, 9004, 9004, 100.0, 'broken', ?, 'PROCESSING')", old);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String table : new String[]{"refund", "delivery", "payment", "product_order", "refund_archive",
+                "delivery_archive", "payment_archive", "product_order_archive"}) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE order_id BETWEEN 9001 AND 9005");
+        }
+        jdbcTemplate.update("DELETE FROM delivery_address WHERE delivery_address_id = 9001");
+        jdbcTemplate.update("DELETE FROM user WHERE user_id = 'archiver'");
+    }
+
+    @Test
+    void archiveClosedOrders() {
+        ArchiveResult result = orderArchiveService.archiveClosedOrders();
+
+        assertTrue(result.isCompleted());
+        assertEquals(2, result.getArchivedOrders());
+        assertEquals(2, result.getChunks());
+
+        assertEquals(3, count("product_order"));
+        assertEquals(2, count("product_order_archive"));
+        assertEquals(1, count("payment_archive"));
+        assertEquals(1, count("delivery_archive"));
+        assertEquals(0, count("delivery"));
+        assertEquals(1, count("refund"));
+
+        // 보관된 주문도 기존 조회 경로로 찾을 수 있어야 한다
+        OrderDto archived = orderService.getOrderById(9001L);
+        assertEquals(9001L, archived.getOrderId());
+
+        // 다시 실행해도 대상이 없으면 아무것도 하지 않는다
+        assertEquals(0, orderArchiveService.archiveClosedOrders().getArchivedOrders());
+    }
+
+    @Test
+    void refundInsertedAfterCopyIsNeverDeletedUnarchived() {
+        // 복사와 삭제 사이에 9001 주문의 환불이 새로 들어오는 상황
+        NamedParameterJdbcTemplate racing = new NamedParameterJdbcTemplate(dataSource) {
+            private boolean inserted;
+
+            @Override
+            public int update(String sql, SqlParameterSource paramSource) {
+                if (!inserted && sql.startsWith("DELETE FROM refund")) {
+                    inserted = true;
+                    // 보관 트랜잭션과 별개인 커넥션에서 커밋
+                    try (Connection connection = dataSource.getConnection()) {
+                        new JdbcTemplate(new SingleConnectionDataSource(connection, true)).update(
+                                "INSERT INTO refund (refund_id, order_id, payment_id, refund_amount, refund_reason, " +
+                                "reg_date, refund_status) VALUES (9101, 9001, 9001, 10.0, 'late', ?, 'PROCESSED')", old);
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                return super.update(sql, paramSource);
+            }
+        };
+        OrderArchiveService service = new OrderArchiveService(racing, transactionManager, properties,
+                collectionVersions);
+
+        ArchiveResult interrupted = service.archiveClosedOrders();
+
+        // 청크가 롤백되어 주문과 새 환불이 그대로 남는다
+        assertFalse(interrupted.isCompleted());
+        assertEquals(0, interrupted.getArchivedOrders());
+        assertEquals(5, count("product_order"));
+        assertEquals(0, count("product_order_archive"));
+        assertEquals(2, count("refund"));
+
+        // 다음 실행에서 새 환불까지 함께 보관된다
+        ArchiveResult result = orderArchiveService.archiveClosedOrders();
+        assertTrue(result.isCompleted());
+        assertEquals(2, result.getArchivedOrders());
+        assertEquals(1, count("refund_archive"));
+        assertEquals(1, count("refund"));
+    }
+
+    private void insertOrder(long id, Timestamp regDate, String status) {
+        jdbcTemplate.update("INSERT INTO product_order (order_id, user_id, order_count, order_amount, reg_date, " +
+                "refund_status, order_status) VALUES (?, 'archiver', 1, 100.0, ?, 0, ?)", id, regDate, status);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE order_id BETWEEN 9001 AND 9005",
+                Long.class);
+    }
+}
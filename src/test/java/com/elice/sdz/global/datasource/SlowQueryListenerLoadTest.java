@@ -0,0 +1,119 @@
+package com.elice.sdz.global.datasource;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.elice.sdz.global.config.SlowQueryProperties;
+import com.elice.sdz.global.web.HandlerMdcInterceptor;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 내장 H2 에 운영과 같은 방식(Hikari + JDBC 프록시)으로 동시 부하를 주고 느린 쿼리 로깅을 검증
+class SlowQueryListenerLoadTest {
+
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 100;
+    private static final int BATCH_SIZE = 50;
+
+    private HikariDataSource pool;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:slow-query-" + UUID.randomUUID() + ";MODE=MySQL");
+        config.setMaximumPoolSize(THREADS);
+        config.setMinimumIdle(THREADS);
+        config.setConnectionTimeout(3000);
+        pool = new HikariDataSource(config);
+        new JdbcTemplate(pool).execute("CREATE TABLE load_item (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "name VARCHAR(50) NOT NULL, amount DOUBLE NOT NULL)");
+
+        appender = new ListAppender<>();
+        appender.start();
+        ((Logger) LoggerFactory.getLogger(SlowQueryListener.class)).addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((Logger) LoggerFactory.getLogger(SlowQueryListener.class)).detachAppender(appender);
+        pool.close();
+    }
+
+    @Test
+    void concurrentLoadBelowThresholdIsNotLogged() throws Exception {
+        SlowQueryListener listener = listener(Duration.ofMinutes(1));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(proxy(listener));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < ITERATIONS; i++) {
+                    List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+                    for (int r = 0; r < BATCH_SIZE; r++) {
+                        rows.add(new Object[]{"item-" + thread + "-" + i + "-" + r, r * 1.5});
+                    }
+                    jdbcTemplate.batchUpdate("INSERT INTO load_item (name, amount) VALUES (?, ?)", rows);
+                    jdbcTemplate.queryForObject("SELECT COUNT(*) FROM load_item WHERE amount > ?", Long.class, 10.0);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        long expectedRows = (long) THREADS * ITERATIONS * BATCH_SIZE;
+        assertEquals(expectedRows, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM load_item", Long.class));
+        assertEquals(0, listener.getSlowQueryCount());
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void slowQueryIsLoggedWithParametersAndHandler() {
+        SlowQueryListener listener = listener(Duration.ZERO);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(proxy(listener));
+
+        MDC.put(HandlerMdcInterceptor.HANDLER_KEY, "OrderController.getAllOrders");
+        try {
+            jdbcTemplate.update("INSERT INTO load_item (name, amount) VALUES (?, ?)", "chair", 99.5);
+        } finally {
+            MDC.remove(HandlerMdcInterceptor.HANDLER_KEY);
+        }
+
+        assertEquals(1, listener.getSlowQueryCount());
+        String message = appender.list.get(0).getFormattedMessage();
+        assertTrue(message.contains("handler=OrderController.getAllOrders"), message);
+        assertTrue(message.contains("INSERT INTO load_item"), message);
+        assertTrue(message.contains("(chair,99.5)"), message);
+    }
+
+    private SlowQueryListener listener(Duration threshold) {
+        SlowQueryProperties properties = new SlowQueryProperties();
+        properties.setThreshold(threshold);
+        return new SlowQueryListener(properties);
+    }
+
+    private DataSource proxy(SlowQueryListener listener) {
+        return ProxyDataSourceBuilder.create(pool).listener(listener).build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.elice.sdz.global.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BusinessExceptionTest {
+
+    @Test
+    void expectedExceptionsHaveNoStackTraceAndAreReused() {
+        NotFoundException exception = NotFoundException.of(ErrorCode.ORDER_NOT_FOUND);
+
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.ORDER_NOT_FOUND);
+        assertThat(NotFoundException.of(ErrorCode.ORDER_NOT_FOUND)).isSameAs(exception);
+
+        // 공유 인스턴스에 suppressed 예외가 쌓이지 않는다
+        exception.addSuppressed(new IllegalStateException());
+        assertThat(exception.getSuppressed()).isEmpty();
+    }
+
+    @Test
+    void rejectsErrorCodeWithDifferentStatus() {
+        assertThatThrownBy(() -> NotFoundException.of(ErrorCode.INVALID_ORDER))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> InvalidValueException.of(ErrorCode.ORDER_NOT_FOUND))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void detailMessageReachesResponseBody() {
+        ErrorResponseWriter writer = new ErrorResponseWriter(new ObjectMapper());
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(writer);
+
+        ResponseEntity<byte[]> detailed = handler.handleBusinessException(
+                new InvalidValueException(ErrorCode.INVALID_INPUT, "orderIds is required."));
+        assertThat(detailed.getStatusCode().value()).isEqualTo(400);
+        assertThat(new String(detailed.getBody(), StandardCharsets.UTF_8))
+                .contains("\"errorCode\":\"INVALID_INPUT\"")
+                .contains("\"message\":\"orderIds is required.\"");
+
+        // 기본 메시지는 미리 직렬화된 본문을 그대로 사용
+        ResponseEntity<byte[]> fixed = handler.handleBusinessException(NotFoundException.of(ErrorCode.ORDER_NOT_FOUND));
+        assertThat(fixed.getBody()).isSameAs(writer.body(ErrorCode.ORDER_NOT_FOUND));
+    }
+
+    @Test
+    void errorLogLimiterSuppressesRepeatsAndReportsCount() {
+        ErrorLogLimiter limiter = new ErrorLogLimiter(2, 10);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isEqualTo(-1);
+        assertThat(limiter.tryAcquire("b")).isZero();
+    }
+}
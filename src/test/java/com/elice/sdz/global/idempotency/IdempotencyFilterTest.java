@@ -0,0 +1,129 @@
+package com.elice.sdz.global.idempotency;
+
+import com.elice.sdz.global.config.IdempotencyProperties;
+import com.elice.sdz.global.exception.ErrorResponseWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyFilterTest {
+
+    private IdempotencyFilter filter;
+    private final AtomicInteger executions = new AtomicInteger();
+
+    // 컨트롤러 대신 주문 생성 응답을 쓰는 체인
+    private final FilterChain createOrder = (request, response) -> {
+        int orderId = executions.incrementAndGet();
+        request.getInputStream().readAllBytes();
+        response.setContentType("application/json");
+        response.getOutputStream().write(("{\"orderId\":" + orderId + "}").getBytes(StandardCharsets.UTF_8));
+    };
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofMinutes(1), 100);
+        filter = new IdempotencyFilter(store, properties, new ErrorResponseWriter(new ObjectMapper()));
+    }
+
+    @Test
+    void replayReturnsStoredResponseWithoutExecutingAgain() throws Exception {
+        MockHttpServletResponse first = perform("key-1", "{\"orderCount\":2}", createOrder);
+        MockHttpServletResponse second = perform("key-1", "{\"orderCount\":2}", createOrder);
+
+        assertEquals(1, executions.get());
+        assertEquals("{\"orderId\":1}", first.getContentAsString());
+        assertEquals("{\"orderId\":1}", second.getContentAsString());
+        assertEquals("true", second.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void concurrentDuplicateIsRejected() throws Exception {
+        // 첫 요청이 처리되는 도중에 같은 키로 재시도가 들어온 상황
+        FilterChain slowChain = (request, response) -> {
+            MockHttpServletResponse duplicate = perform("key-2", "{}", createOrder);
+            assertEquals(409, duplicate.getStatus());
+            createOrder.doFilter(request, response);
+        };
+
+        MockHttpServletResponse first = perform("key-2", "{}", slowChain);
+
+        assertEquals(200, first.getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void reusedKeyWithDifferentBodyIsRejected() throws Exception {
+        perform("key-3", "{\"orderCount\":1}", createOrder);
+        MockHttpServletResponse reused = perform("key-3", "{\"orderCount\":5}", createOrder);
+
+        assertEquals(422, reused.getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void serverErrorReleasesKey() throws Exception {
+        FilterChain failing = (request, response) -> ((jakarta.servlet.http.HttpServletResponse) response).setStatus(503);
+
+        assertEquals(503, perform("key-4", "{}", failing).getStatus());
+        assertEquals(200, perform("key-4", "{}", createOrder).getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void throttledRequestIsNotReplayed() throws Exception {
+        // 인터셉터가 유입 제어로 거절한 응답 (필터 안쪽의 DispatcherServlet 에서 작성됨)
+        FilterChain throttled = (request, response) -> {
+            jakarta.servlet.http.HttpServletResponse http = (jakarta.servlet.http.HttpServletResponse) response;
+            http.setStatus(429);
+            http.setHeader("Retry-After", "1");
+        };
+
+        assertEquals(429, perform("key-5", "{}", throttled).getStatus());
+        MockHttpServletResponse retry = perform("key-5", "{}", createOrder);
+
+        assertEquals(200, retry.getStatus());
+        assertNull(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals("{\"orderId\":1}", retry.getContentAsString());
+    }
+
+    @Test
+    void replayRestoresResponseHeaders() throws Exception {
+        FilterChain created = (request, response) -> {
+            jakarta.servlet.http.HttpServletResponse http = (jakarta.servlet.http.HttpServletResponse) response;
+            http.setStatus(201);
+            http.setHeader("Location", "/api/orders/" + executions.incrementAndGet());
+            http.setContentType("application/json");
+        };
+
+        MockHttpServletResponse first = perform("key-6", "{}", created);
+        MockHttpServletResponse replayed = perform("key-6", "{}", created);
+
+        assertEquals(1, executions.get());
+        assertEquals(201, replayed.getStatus());
+        assertEquals(first.getHeader("Location"), replayed.getHeader("Location"));
+        assertEquals("application/json", replayed.getContentType());
+        assertEquals("true", replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    private MockHttpServletResponse perform(String key, String body, FilterChain chain) throws IOException, ServletException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders");
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,53 @@
+package com.elice.sdz.global.idempotency;
+
+import com.elice.sdz.global.exception.BusinessException;
+import com.elice.sdz.global.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryIdempotencyStoreTest {
+
+    @Test
+    void evictsOnlyCompletedEntries() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofMinutes(1), 2);
+        assertNull(store.reserve("done", "f"));
+        store.complete("done", completed());
+        assertNull(store.reserve("running", "f"));
+
+        // 가장 오래된 완료 항목이 밀려나고 처리 중 선점은 남는다
+        assertNull(store.reserve("next", "f"));
+        assertTrue(store.reserve("running", "f").isInProgress());
+        store.complete("next", completed());
+        assertNull(store.reserve("done", "f"));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void rejectsWhenFullOfInFlightReservations() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofMinutes(1), 2);
+        assertNull(store.reserve("a", "f"));
+        assertNull(store.reserve("b", "f"));
+
+        BusinessException e = assertThrows(BusinessException.class, () -> store.reserve("c", "f"));
+        assertEquals(ErrorCode.SERVER_OVERLOADED, e.getErrorCode());
+        assertTrue(store.reserve("a", "f").isInProgress());
+    }
+
+    @Test
+    void expiredLeaseCanBeReservedAgain() throws InterruptedException {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofMillis(1), 10);
+        assertNull(store.reserve("crashed", "f"));
+        Thread.sleep(10);
+
+        // 처리하던 인스턴스가 응답을 남기지 못한 경우 임대가 끝나면 다시 선점된다
+        assertNull(store.reserve("crashed", "f"));
+    }
+
+    private StoredResponse completed() {
+        return new StoredResponse("f", 201, "application/json", null, new byte[0], Instant.now().plus(Duration.ofHours(24)));
+    }
+}
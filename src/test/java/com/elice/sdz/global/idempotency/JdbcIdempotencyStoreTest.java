@@ -0,0 +1,71 @@
+package com.elice.sdz.global.idempotency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class JdbcIdempotencyStoreTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM idempotency_record WHERE idempotency_key LIKE 'jdbc-%'");
+    }
+
+    @Test
+    void failedInsertReleasesLocalReservation() {
+        // 첫 INSERT 만 DB 장애로 실패하는 저장소
+        JdbcTemplate flaky = new JdbcTemplate(dataSource) {
+            private boolean failed;
+
+            @Override
+            public int update(String sql, Object... args) {
+                if (!failed && sql.startsWith("INSERT")) {
+                    failed = true;
+                    throw new DataAccessResourceFailureException("connection reset");
+                }
+                return super.update(sql, args);
+            }
+        };
+        JdbcIdempotencyStore store = newStore(flaky);
+
+        assertThrows(DataAccessResourceFailureException.class, () -> store.reserve("jdbc-1", "f"));
+        // 메모리에 처리 중으로 남지 않아 재시도가 바로 선점된다
+        assertNull(store.reserve("jdbc-1", "f"));
+    }
+
+    @Test
+    void completedResponseKeepsHeadersAcrossInstances() {
+        JdbcIdempotencyStore store = newStore(jdbcTemplate);
+        assertNull(store.reserve("jdbc-2", "f"));
+        store.complete("jdbc-2", new StoredResponse("f", 201, "application/json",
+                Map.of("Location", List.of("/api/orders/7")), "{}".getBytes(), Instant.now().plus(Duration.ofHours(1))));
+
+        // 메모리 캐시가 없는 다른 인스턴스도 DB 에서 헤더까지 읽어 돌려준다
+        StoredResponse replayed = newStore(jdbcTemplate).reserve("jdbc-2", "f");
+        assertEquals(201, replayed.status());
+        assertEquals(Map.of("Location", List.of("/api/orders/7")), replayed.headers());
+    }
+
+    private JdbcIdempotencyStore newStore(JdbcTemplate template) {
+        return new JdbcIdempotencyStore(template, new InMemoryIdempotencyStore(Duration.ofMinutes(1), 100),
+                Duration.ofMinutes(1));
+    }
+}
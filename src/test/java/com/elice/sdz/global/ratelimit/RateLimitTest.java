@@ -0,0 +1,97 @@
+package com.elice.sdz.global.ratelimit;
+
+import com.elice.sdz.global.config.RateLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitTest {
+
+    @Test
+    void tokenBucketAllowsBurstThenRefills() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(2, 1, now);
+
+        assertThat(bucket.tryConsume(now)).isTrue();
+        assertThat(bucket.tryConsume(now)).isTrue();
+        assertThat(bucket.tryConsume(now)).isFalse();
+        assertThat(bucket.secondsUntilAvailable(now)).isEqualTo(1);
+
+        now += TimeUnit.SECONDS.toNanos(1);
+        assertThat(bucket.tryConsume(now)).isTrue();
+        assertThat(bucket.tryConsume(now)).isFalse();
+    }
+
+    @Test
+    void rateLimiterUsesEndpointOverride() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getEndpoints().put("POST /api/orders", new RateLimitProperties.Limit(1, 0.001));
+        RateLimiter limiter = new RateLimiter(properties);
+
+        assertThat(limiter.tryAcquire("ip:1.1.1.1", "POST /api/orders")).isZero();
+        assertThat(limiter.tryAcquire("ip:1.1.1.1", "POST /api/orders")).isPositive();
+        // 다른 클라이언트, 다른 엔드포인트는 영향 없음
+        assertThat(limiter.tryAcquire("ip:2.2.2.2", "POST /api/orders")).isZero();
+        assertThat(limiter.tryAcquire("ip:1.1.1.1", "GET /api/orders")).isZero();
+    }
+
+    @Test
+    void fullTableKeepsActiveBucketsAndSharesOverflowBucket() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxBuckets(2);
+        properties.setDefaultLimit(new RateLimitProperties.Limit(1, 0.001));
+        RateLimiter limiter = new RateLimiter(properties);
+
+        assertThat(limiter.tryAcquire("ip:1.1.1.1", "GET /api/orders")).isZero();
+        assertThat(limiter.tryAcquire("ip:2.2.2.2", "GET /api/orders")).isZero();
+
+        // 활성 버킷이 가득 찬 뒤의 새 클라이언트는 공용 버킷을 나눠 쓴다
+        assertThat(limiter.tryAcquire("ip:3.3.3.3", "GET /api/orders")).isZero();
+        assertThat(limiter.tryAcquire("ip:4.4.4.4", "GET /api/orders")).isPositive();
+        // 기존 클라이언트의 사용량은 초기화되지 않는다
+        assertThat(limiter.tryAcquire("ip:1.1.1.1", "GET /api/orders")).isPositive();
+        assertThat(limiter.size()).isEqualTo(3);
+    }
+
+    @Test
+    void concurrencyLimitRejectsAboveLimit() {
+        RateLimitProperties.Concurrency properties = new RateLimitProperties.Concurrency();
+        properties.setInitialLimit(2);
+        properties.setMinLimit(1);
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(properties);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        limiter.releaseWithoutSample();
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void concurrencyLimitGrowsWhenLatencyStableAndShrinksWhenLatencyRises() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(new RateLimitProperties.Concurrency());
+        int initial = limiter.getLimit();
+
+        saturate(limiter, 200, TimeUnit.MILLISECONDS.toNanos(10));
+        int grown = limiter.getLimit();
+        assertThat(grown).isGreaterThan(initial);
+
+        saturate(limiter, 200, TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(limiter.getLimit()).isLessThan(grown);
+    }
+
+    // 한도까지 요청을 채운 상태에서 하나씩 완료시키며 지연 샘플을 넣는다
+    private void saturate(GradientConcurrencyLimiter limiter, int samples, long rttNanos) {
+        for (int i = 0; i < samples; i++) {
+            while (limiter.tryAcquire()) {
+                // 한도까지 점유
+            }
+            limiter.release(rttNanos);
+            while (limiter.getInFlight() > 0) {
+                limiter.releaseWithoutSample();
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.elice.sdz.global.startup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SelectiveLazyInitPostProcessorTest {
+
+    @Test
+    void marksOnlyMatchingBeansLazy() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("docs", new RootBeanDefinition(DocsBean.class));
+        beanFactory.registerBeanDefinition("core", new RootBeanDefinition(String.class));
+        beanFactory.registerBeanDefinition("postProcessor", new RootBeanDefinition(DocsPostProcessor.class));
+        beanFactory.registerBeanDefinition("eager", BeanDefinitionBuilder.rootBeanDefinition(DocsBean.class)
+                .setLazyInit(false).getBeanDefinition());
+        // @Bean 메서드 빈은 선언한 설정 클래스 기준
+        beanFactory.registerBeanDefinition("docsConfig", new RootBeanDefinition(DocsConfig.class));
+        beanFactory.registerBeanDefinition("fromConfig", BeanDefinitionBuilder.genericBeanDefinition()
+                .setFactoryMethodOnBean("create", "docsConfig").getBeanDefinition());
+
+        new SelectiveLazyInitPostProcessor(List.of(DocsBean.class.getName(), DocsConfig.class.getName(),
+                DocsPostProcessor.class.getName())).postProcessBeanFactory(beanFactory);
+
+        assertThat(beanFactory.getBeanDefinition("docs").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("fromConfig").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("core").isLazyInit()).isFalse();
+        assertThat(beanFactory.getBeanDefinition("postProcessor").isLazyInit()).isFalse();
+        assertThat(beanFactory.getBeanDefinition("eager").isLazyInit()).isFalse();
+    }
+
+    static class DocsBean {
+    }
+
+    static class DocsPostProcessor implements BeanPostProcessor {
+    }
+
+    static class DocsConfig {
+        public DocsBean create() {
+            return new DocsBean();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.elice.sdz.global.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 헤드 샘플링 0, tail 기준 0ms: 모든 요청이 tail 샘플링 경로로 수집된다
+@SpringBootTest(properties = {
+        "sdz.tracing.rate-per-second=0",
+        "sdz.tracing.tail.slow-threshold=0ms"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(metrics = false)
+class RequestTracingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanExporter exporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Test
+    void slowRequestIsExportedWithServiceAndQuerySpans() throws Exception {
+        mockMvc.perform(get("/api/orders")).andExpect(status().isOk());
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        SpanData server = spans.stream()
+                .filter(span -> span.getName().equals("http get /api/orders"))
+                .findFirst().orElseThrow();
+        List<SpanData> trace = spans.stream()
+                .filter(span -> span.getTraceId().equals(server.getTraceId()))
+                .toList();
+
+        assertThat(trace).extracting(SpanData::getName).contains("order-service.get-all-orders", "query");
+        assertThat(trace).anySatisfy(span ->
+                assertThat(span.getAttributes().asMap().toString()).contains("product_order"));
+        // 요청이 끝난 뒤 스레드에 스팬 컨텍스트가 남지 않는다
+        assertThat(Span.current().getSpanContext().isValid()).isFalse();
+    }
+
+    @TestConfiguration
+    static class ExporterConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+}
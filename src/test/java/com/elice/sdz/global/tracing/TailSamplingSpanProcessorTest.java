@@ -0,0 +1,101 @@
+package com.elice.sdz.global.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TailSamplingSpanProcessorTest {
+
+    private static final long THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private SdkTracerProvider tracerProvider;
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void exportsWholeTraceOnlyWhenRootIsSlow() {
+        TailSamplingSpanProcessor tail = tailProcessor(10);
+        Tracer tracer = tracer(0, tail);
+
+        trace(tracer, 10);   // 빠른 요청: 버림
+        trace(tracer, 800);  // 느린 요청: 루트 + 자식 모두 수집
+
+        assertThat(exporter.getFinishedSpanItems())
+                .extracting(SpanData::getName)
+                .containsExactlyInAnyOrder("query", "GET /api/orders");
+        assertThat(exporter.getFinishedSpanItems())
+                .extracting(span -> span.getSpanContext().getTraceId())
+                .containsOnly(exporter.getFinishedSpanItems().get(0).getSpanContext().getTraceId());
+        assertThat(tail.getPendingTraces()).isZero();
+    }
+
+    @Test
+    void headSampledTracesAreLeftToDefaultProcessor() {
+        TailSamplingSpanProcessor tail = tailProcessor(10);
+        Tracer tracer = tracer(1000, tail);
+
+        trace(tracer, 800);
+
+        // 샘플링된 트레이스는 기본 BatchSpanProcessor 가 내보내므로 여기서는 중복으로 내보내지 않는다
+        assertThat(exporter.getFinishedSpanItems()).isEmpty();
+    }
+
+    @Test
+    void boundsPendingTraces() {
+        TailSamplingSpanProcessor tail = tailProcessor(1);
+        Tracer tracer = tracer(0, tail);
+
+        Span first = tracer.spanBuilder("root-1").startSpan();
+        Span second = tracer.spanBuilder("root-2").startSpan();
+        try (Scope scope = first.makeCurrent()) {
+            tracer.spanBuilder("child").startSpan().end();
+        }
+        try (Scope scope = second.makeCurrent()) {
+            tracer.spanBuilder("child").startSpan().end();
+        }
+
+        assertThat(tail.getPendingTraces()).isEqualTo(1);
+        assertThat(tail.getDroppedSpans()).isEqualTo(1);
+        first.end();
+        second.end();
+    }
+
+    private TailSamplingSpanProcessor tailProcessor(int maxTraces) {
+        return new TailSamplingSpanProcessor(
+                SimpleSpanProcessor.builder(exporter).setExportUnsampledSpans(true).build(), THRESHOLD_NANOS, maxTraces,
+                100, TimeUnit.MINUTES.toNanos(1));
+    }
+
+    private Tracer tracer(double ratePerSecond, TailSamplingSpanProcessor tail) {
+        tracerProvider = SdkTracerProvider.builder()
+                .setSampler(new RateLimitingSampler(ratePerSecond, true))
+                .addSpanProcessor(tail)
+                .build();
+        return tracerProvider.get("test");
+    }
+
+    // 지정한 시간이 걸린 요청 (루트 스팬 + 쿼리 스팬)
+    private void trace(Tracer tracer, long durationMillis) {
+        Instant start = Instant.now();
+        Span root = tracer.spanBuilder("GET /api/orders").setStartTimestamp(start).startSpan();
+        try (Scope scope = root.makeCurrent()) {
+            tracer.spanBuilder("query").setStartTimestamp(start).startSpan().end(start.plusMillis(1));
+        }
+        root.end(start.plusMillis(durationMillis));
+    }
+}
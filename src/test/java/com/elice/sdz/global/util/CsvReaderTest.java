@@ -0,0 +1,38 @@
+package com.elice.sdz.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @Test
+    void readRecord() throws Exception {
+        String csv = "name,content\n" +
+                "chair,\"soft, \"\"ergonomic\"\"\nseat\"\n" +
+                "stool,plain\n";
+
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            assertEquals(List.of("name", "content"), reader.readRecord());
+
+            assertEquals(List.of("chair", "soft, \"ergonomic\"\nseat"), reader.readRecord());
+            assertEquals(2, reader.getRecordLineNumber());
+
+            assertEquals(List.of("stool", "plain"), reader.readRecord());
+            assertEquals(4, reader.getRecordLineNumber());
+
+            assertNull(reader.readRecord());
+        }
+    }
+
+    @Test
+    void escape() {
+        assertEquals("plain", CsvReader.escape("plain"));
+        assertEquals("\"a,b\"", CsvReader.escape("a,b"));
+        assertEquals("\"say \"\"hi\"\"\"", CsvReader.escape("say \"hi\""));
+        assertEquals("", CsvReader.escape(null));
+    }
+}
@@ -0,0 +1,78 @@
+package com.elice.sdz.global.web;
+
+import com.elice.sdz.global.config.ConditionalGetProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CollectionVersionsTest {
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectProvider<PlatformTransactionManager> transactionManagerProvider;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM collection_version WHERE collection_name LIKE 'cv-%'");
+    }
+
+    @Test
+    void bumpOnOneInstanceIsSeenByAnother() {
+        // 같은 DB 를 쓰는 다른 인스턴스 (갱신 주기 1시간)
+        CollectionVersions otherInstance = new CollectionVersions(jdbcTemplate, transactionManagerProvider,
+                refreshEvery(Duration.ofHours(1)));
+        String before = otherInstance.etag("cv-shared");
+
+        collectionVersions.bump("cv-shared");
+        assertEquals(1, collectionVersions.current("cv-shared").version());
+        // 갱신 주기 안에서는 캐시된 값을 쓴다
+        assertEquals(before, otherInstance.etag("cv-shared"));
+
+        CollectionVersions restarted = new CollectionVersions(jdbcTemplate, transactionManagerProvider,
+                refreshEvery(Duration.ZERO));
+        assertEquals(collectionVersions.etag("cv-shared"), restarted.etag("cv-shared"));
+        assertNotEquals(before, restarted.etag("cv-shared"));
+    }
+
+    private ConditionalGetProperties refreshEvery(Duration interval) {
+        ConditionalGetProperties properties = new ConditionalGetProperties();
+        properties.setVersionRefreshInterval(interval);
+        return properties;
+    }
+
+    @Test
+    void bumpsInOneTransactionApplyOnceAfterCommit() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            collectionVersions.bump("cv-tx");
+            collectionVersions.bump("cv-tx");
+            // 커밋 전에는 그대로
+            assertEquals(0, collectionVersions.current("cv-tx").version());
+        });
+        assertEquals(1, collectionVersions.current("cv-tx").version());
+
+        TransactionTemplate rolledBack = new TransactionTemplate(transactionManager);
+        rolledBack.executeWithoutResult(status -> {
+            collectionVersions.bump("cv-tx");
+            status.setRollbackOnly();
+        });
+        assertEquals(1, collectionVersions.current("cv-tx").version());
+    }
+}
@@ -0,0 +1,151 @@
+package com.elice.sdz.inquiry.service;
+
+import com.elice.sdz.global.exception.BusinessException;
+import com.elice.sdz.global.exception.ErrorCode;
+import com.elice.sdz.inquiry.dto.InquiryClaim;
+import com.elice.sdz.inquiry.dto.InquiryQueueItem;
+import com.elice.sdz.inquiry.dto.InquiryQueuePage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "sdz.inquiry.queue.claim-candidates=2")
+class InquiryQueueServiceTest {
+
+    @Autowired
+    private InquiryQueueService inquiryQueueService;
+
+    @Autowired
+    private PendingInquiryNotifier pendingInquiryNotifier;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_auth, reg_date, email, login_lock, login_attempts, social) " +
+                "VALUES ('asker', 'ROLE_USER', ?, 'asker@sdz.com', 0, 0, 0)", Timestamp.from(Instant.now()));
+        insertInquiry(8001, "DELIVERY", "PENDING");
+        insertInquiry(8002, "PRODUCT", "PENDING");
+        insertInquiry(8003, "DELIVERY", "PENDING");
+        insertInquiry(8004, "DELIVERY", "ANSWERED");
+        insertInquiry(8005, "DELIVERY", "PENDING");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM inquiry WHERE inquiry_id BETWEEN 8001 AND 8005");
+        jdbcTemplate.update("DELETE FROM user WHERE user_id = 'asker'");
+    }
+
+    @Test
+    void keysetPagingWithTypeFilter() {
+        InquiryQueuePage first = inquiryQueueService.getQueue("DELIVERY", 0, 2, false);
+        assertEquals(List.of(8001L, 8003L), ids(first.items()));
+        assertEquals(8003L, first.nextCursor());
+
+        InquiryQueuePage second = inquiryQueueService.getQueue("DELIVERY", first.nextCursor(), 2, false);
+        assertEquals(List.of(8005L), ids(second.items()));
+        assertNull(second.nextCursor());
+
+        assertEquals(List.of(8001L, 8002L, 8003L, 8005L), ids(inquiryQueueService.getQueue(null, 0, 10, false).items()));
+    }
+
+    @Test
+    void claimIsExclusiveUntilLeaseExpires() {
+        InquiryClaim claim = inquiryQueueService.claim(8001L, "admin1");
+        assertEquals("admin1", claim.claimedBy());
+
+        BusinessException conflict = assertThrows(BusinessException.class,
+                () -> inquiryQueueService.claim(8001L, "admin2"));
+        assertEquals(ErrorCode.INQUIRY_ALREADY_CLAIMED, conflict.getErrorCode());
+
+        // 선점된 문의는 기본 조회에서 빠지고 includeClaimed 로만 보인다
+        assertFalse(ids(inquiryQueueService.getQueue("DELIVERY", 0, 10, false).items()).contains(8001L));
+        assertTrue(ids(inquiryQueueService.getQueue("DELIVERY", 0, 10, true).items()).contains(8001L));
+
+        // 임대가 만료되면 다른 관리자가 가져갈 수 있고, 이전 관리자는 답변할 수 없다
+        jdbcTemplate.update("UPDATE inquiry SET claim_expires_at = ? WHERE inquiry_id = 8001",
+                Timestamp.from(Instant.now().minusSeconds(1)));
+        assertEquals("admin2", inquiryQueueService.claim(8001L, "admin2").claimedBy());
+        BusinessException expired = assertThrows(BusinessException.class,
+                () -> inquiryQueueService.answer(8001L, "admin1", "done"));
+        assertEquals(ErrorCode.INQUIRY_CLAIM_REQUIRED, expired.getErrorCode());
+    }
+
+    @Test
+    void answerAndRelease() {
+        long before = pendingInquiryNotifier.currentCount().total();
+
+        inquiryQueueService.claim(8002L, "admin1");
+        inquiryQueueService.answer(8002L, "admin1", "shipped today");
+        assertEquals("ANSWERED", jdbcTemplate.queryForObject(
+                "SELECT inquiry_status FROM inquiry WHERE inquiry_id = 8002", String.class));
+        assertEquals(before - 1, pendingInquiryNotifier.currentCount().total());
+
+        BusinessException answered = assertThrows(BusinessException.class,
+                () -> inquiryQueueService.claim(8002L, "admin2"));
+        assertEquals(ErrorCode.INQUIRY_ALREADY_ANSWERED, answered.getErrorCode());
+
+        inquiryQueueService.claim(8003L, "admin1");
+        assertThrows(BusinessException.class, () -> inquiryQueueService.release(8003L, "admin2"));
+        inquiryQueueService.release(8003L, "admin1");
+        inquiryQueueService.release(8003L, "admin1");
+        assertEquals("admin2", inquiryQueueService.claim(8003L, "admin2").claimedBy());
+
+        BusinessException missing = assertThrows(BusinessException.class,
+                () -> inquiryQueueService.claim(9999L, "admin1"));
+        assertEquals(ErrorCode.INQUIRY_NOT_FOUND, missing.getErrorCode());
+    }
+
+    @Test
+    void concurrentClaimNextHandsOutEachInquiryOnce() throws Exception {
+        int admins = 6;
+        ExecutorService pool = Executors.newFixedThreadPool(admins);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Long> claimed = ConcurrentHashMap.newKeySet();
+        ConcurrentHashMap<String, Integer> misses = new ConcurrentHashMap<>();
+        for (int i = 0; i < admins; i++) {
+            String adminId = "admin" + i;
+            pool.submit(() -> {
+                start.await();
+                Optional<InquiryQueueItem> item = inquiryQueueService.claimNext("DELIVERY", adminId);
+                item.ifPresentOrElse(found -> assertTrue(claimed.add(found.inquiryId())),
+                        () -> misses.merge("miss", 1, Integer::sum));
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(Set.of(8001L, 8003L, 8005L), claimed);
+        assertEquals(admins - 3, misses.getOrDefault("miss", 0));
+    }
+
+    private void insertInquiry(long id, String type, String status) {
+        jdbcTemplate.update("INSERT INTO inquiry (inquiry_id, user_id, inquiry_type, inquiry_title, inquiry_content, " +
+                "reg_date, inquiry_secret, inquiry_status) VALUES (?, 'asker', ?, 'title', 'content', ?, 0, ?)",
+                id, type, Timestamp.from(Instant.now()), status);
+    }
+
+    private List<Long> ids(List<InquiryQueueItem> items) {
+        return items.stream().map(InquiryQueueItem::inquiryId).toList();
+    }
+}
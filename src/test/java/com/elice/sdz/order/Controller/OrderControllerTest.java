@@ -1,9 +1,13 @@
 package com.elice.sdz.order.Controller;
 
+import com.elice.sdz.global.exception.ErrorCode;
+import com.elice.sdz.global.exception.NotFoundException;
+import com.elice.sdz.global.web.CollectionVersions;
 import com.elice.sdz.order.controller.OrderController;
 import com.elice.sdz.order.dto.OrderDto;
 import com.elice.sdz.order.service.OrderService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +16,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 
@@ -27,9 +32,20 @@ class OrderControllerTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private CollectionVersions collectionVersions;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @BeforeEach
+    void setUp() {
+        // 워터마크는 DB 에 있으므로 MVC 슬라이스에서는 고정 값으로 대신한다
+        Mockito.when(collectionVersions.current("orders"))
+                .thenReturn(new CollectionVersions.Watermark(3, Instant.parse("2026-01-01T00:00:00Z")));
+        Mockito.when(collectionVersions.etag("orders")).thenReturn("W/\"orders-3\"");
+    }
+
     @Test
     void getAllOrders() throws Exception {
         OrderDto order = new OrderDto();
@@ -47,6 +63,22 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$[0].orderCount").value(2));
     }
 
+    @Test
+    void getAllOrdersNotModified() throws Exception {
+        Mockito.when(orderService.getAllOrders()).thenReturn(List.of());
+
+        String etag = mockMvc.perform(get("/api/orders"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/orders").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        // 304 응답은 서비스(쿼리)를 호출하지 않는다
+        Mockito.verify(orderService, Mockito.times(1)).getAllOrders();
+    }
+
     @Test
     void createOrder() throws Exception {
         OrderDto order = new OrderDto();
@@ -63,4 +95,21 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.orderId").value(1L))
                 .andExpect(jsonPath("$.orderCount").value(2));
     }
+
+    @Test
+    void getOrderByIdNotFound() throws Exception {
+        Mockito.when(orderService.getOrderById(99L)).thenThrow(NotFoundException.of(ErrorCode.ORDER_NOT_FOUND));
+
+        mockMvc.perform(get("/api/orders/99"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value("ORDER_NOT_FOUND"))
+                .andExpect(jsonPath("$.status").value("NOT_FOUND"));
+    }
+
+    @Test
+    void getOrderByIdInvalidId() throws Exception {
+        mockMvc.perform(get("/api/orders/abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_INPUT"));
+    }
 }
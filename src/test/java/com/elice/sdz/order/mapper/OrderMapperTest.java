@@ -0,0 +1,66 @@
+package com.elice.sdz.order.mapper;
+
+import com.elice.sdz.order.dto.OrderDto;
+import com.elice.sdz.order.dto.OrderSummary;
+import com.elice.sdz.order.entity.Order;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderMapperTest {
+
+    private final OrderMapper mapper = new OrderMapperImpl();
+
+    @Test
+    void mapsStatusAndDatesFromEntity() {
+        Instant regDate = Instant.parse("2024-01-01T00:00:00Z");
+        Order order = new Order(1L, null, 2, 100.0, regDate, true, Order.Status.PAYMENTPROCESSED);
+
+        OrderDto dto = mapper.toDto(order);
+
+        assertThat(dto.getOrderId()).isEqualTo(1L);
+        assertThat(dto.getOrderCount()).isEqualTo(2);
+        assertThat(dto.getOrderAmount()).isEqualTo(100.0);
+        assertThat(dto.getOrderStatus()).isEqualTo(Order.Status.PAYMENTPROCESSED);
+        assertThat(dto.getRegDate()).isEqualTo(regDate);
+        assertThat(dto.isRefundStatus()).isTrue();
+    }
+
+    @Test
+    void mapsProjectionList() {
+        List<OrderDto> dtos = mapper.toDtoList(List.of(
+                new OrderSummary(1L, 1, 10.0, Order.Status.PENDING, Instant.EPOCH, false),
+                new OrderSummary(2L, 3, 30.0, Order.Status.REFUNDPROCESSED, Instant.EPOCH, true)));
+
+        assertThat(dtos).extracting(OrderDto::getOrderId).containsExactly(1L, 2L);
+        assertThat(dtos.get(1).getOrderStatus()).isEqualTo(Order.Status.REFUNDPROCESSED);
+    }
+
+    @Test
+    void toEntityIgnoresClientStatusAndUpdateOnlyTouchesCountAndAmount() {
+        OrderDto dto = new OrderDto();
+        dto.setOrderCount(3);
+        dto.setOrderAmount(300.0);
+        dto.setOrderStatus(null);
+        assertThat(mapper.toEntity(dto).getOrderStatus()).isEqualTo(Order.Status.PENDING);
+
+        // 배송 완료/환불 가능 상태로 주문을 만들 수 없다
+        dto.setOrderStatus(Order.Status.DELIVERYPROCESSED);
+        dto.setRefundStatus(true);
+        Order created = mapper.toEntity(dto);
+        assertThat(created.getOrderStatus()).isEqualTo(Order.Status.PENDING);
+        assertThat(created.isRefundStatus()).isFalse();
+
+        Order order = new Order(1L, null, 1, 100.0, Instant.EPOCH, false, Order.Status.PAYMENTPROCESSED);
+        dto.setOrderId(99L);
+        mapper.updateEntity(dto, order);
+
+        assertThat(order.getOrderId()).isEqualTo(1L);
+        assertThat(order.getOrderCount()).isEqualTo(3);
+        assertThat(order.getOrderAmount()).isEqualTo(300.0);
+        assertThat(order.getOrderStatus()).isEqualTo(Order.Status.PAYMENTPROCESSED);
+    }
+}
@@ -0,0 +1,170 @@
+package com.elice.sdz.order.service;
+
+import com.elice.sdz.global.exception.BusinessException;
+import com.elice.sdz.global.exception.ErrorCode;
+import com.elice.sdz.order.dto.OrderStatusDto;
+import com.elice.sdz.order.entity.Order;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest(properties = {
+        "sdz.order.stream.max-subscriptions=2",
+        "sdz.order.stream.max-orders-per-subscription=2"
+})
+@AutoConfigureMockMvc
+class OrderStatusHubTest {
+
+    @Autowired
+    private OrderStatusHub orderStatusHub;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("INSERT INTO user (user_id, user_auth, reg_date, email, login_lock, login_attempts, social) " +
+                "VALUES ('watcher', 'ROLE_USER', ?, 'watcher@sdz.com', 0, 0, 0)", now);
+        jdbcTemplate.update("INSERT INTO product_order (order_id, user_id, order_count, order_amount, reg_date, " +
+                "refund_status, order_status) VALUES (7001, 'watcher', 1, 100.0, ?, 0, 'PAYMENTPROCESSED')", now);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM product_order WHERE order_id = 7001");
+        jdbcTemplate.update("DELETE FROM user WHERE user_id = 'watcher'");
+    }
+
+    @Test
+    void longPollCompletesAfterCommit() throws InterruptedException {
+        DeferredResult<ResponseEntity<OrderStatusDto>> result =
+                orderStatusHub.awaitChange(7001L, Order.Status.PAYMENTPROCESSED);
+        assertFalse(result.hasResult());
+        assertEquals(1, orderStatusHub.getSubscriptionCount());
+
+        // 롤백된 변경은 전달되지 않는다
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            orderService.updateOrderStatus(7001L, Order.Status.REFUNDPROCESSED);
+            status.setRollbackOnly();
+        });
+        Thread.sleep(200);
+        assertFalse(result.hasResult());
+
+        orderService.updateOrderStatus(7001L, Order.Status.DELIVERYPROCESSED);
+        ResponseEntity<OrderStatusDto> response = awaitResult(result);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(new OrderStatusDto(7001L, Order.Status.DELIVERYPROCESSED), response.getBody());
+        assertEquals(0, orderStatusHub.getSubscriptionCount());
+    }
+
+    @Test
+    void longPollAnswersImmediatelyWhenAlreadyChanged() {
+        DeferredResult<ResponseEntity<OrderStatusDto>> result = orderStatusHub.awaitChange(7001L, Order.Status.PENDING);
+
+        assertTrue(result.hasResult());
+        assertEquals(0, orderStatusHub.getSubscriptionCount());
+
+        BusinessException missing = assertThrows(BusinessException.class,
+                () -> orderStatusHub.awaitChange(9999L, Order.Status.PENDING));
+        assertEquals(ErrorCode.ORDER_NOT_FOUND, missing.getErrorCode());
+        assertEquals(0, orderStatusHub.getSubscriptionCount());
+    }
+
+    @Test
+    void subscriptionsAreBounded() {
+        BusinessException tooManyOrders = assertThrows(BusinessException.class,
+                () -> orderStatusHub.subscribe(List.of(1L, 2L, 3L)));
+        assertEquals(ErrorCode.INVALID_INPUT, tooManyOrders.getErrorCode());
+
+        DeferredResult<ResponseEntity<OrderStatusDto>> first =
+                orderStatusHub.awaitChange(7001L, Order.Status.PAYMENTPROCESSED);
+        DeferredResult<ResponseEntity<OrderStatusDto>> second =
+                orderStatusHub.awaitChange(7001L, Order.Status.PAYMENTPROCESSED);
+        BusinessException overloaded = assertThrows(BusinessException.class,
+                () -> orderStatusHub.awaitChange(7001L, Order.Status.PAYMENTPROCESSED));
+        assertEquals(ErrorCode.SERVER_OVERLOADED, overloaded.getErrorCode());
+
+        // 변경 한 번으로 같은 주문을 기다리던 구독이 모두 응답되고 자리가 반환된다
+        orderService.updateOrderStatus(7001L, Order.Status.DELIVERYPROCESSED);
+        awaitResult(first);
+        awaitResult(second);
+        assertEquals(0, orderStatusHub.getSubscriptionCount());
+    }
+
+    @Test
+    void streamSendsCurrentStatusThenCommittedChanges() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/orders/stream").param("orderIds", "7001"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(1, orderStatusHub.getSubscriptionCount());
+        awaitContent(stream, "\"orderStatus\":\"PAYMENTPROCESSED\"");
+
+        orderService.updateOrderStatus(7001L, Order.Status.DELIVERYPROCESSED);
+        String content = awaitContent(stream, "\"orderStatus\":\"DELIVERYPROCESSED\"");
+        // 초기 상태가 먼저, 변경이 그 뒤에 한 번씩 전송된다
+        assertTrue(content.indexOf("PAYMENTPROCESSED") < content.indexOf("DELIVERYPROCESSED"));
+        assertEquals(content.lastIndexOf("PAYMENTPROCESSED"), content.indexOf("PAYMENTPROCESSED"));
+        assertTrue(content.contains("event:order-status"));
+
+        // 클라이언트 연결 종료 시 구독 자리가 반환된다
+        stream.getRequest().getAsyncContext().complete();
+        assertEquals(0, orderStatusHub.getSubscriptionCount());
+    }
+
+    // 전송된 SSE 본문에 기대한 값이 나타날 때까지 최대 5초 대기
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), content);
+        return content;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ResponseEntity<OrderStatusDto> awaitResult(DeferredResult<ResponseEntity<OrderStatusDto>> result) {
+        CountDownLatch completed = new CountDownLatch(1);
+        result.setResultHandler(value -> completed.countDown());
+        try {
+            assertTrue(completed.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+        }
+        return (ResponseEntity<OrderStatusDto>) result.getResult();
+    }
+}
@@ -0,0 +1,67 @@
+package com.elice.sdz.product.controller;
+
+import com.elice.sdz.product.service.ProductDetailCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProductControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductDetailCache productDetailCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_auth, reg_date, email, login_lock, login_attempts, social) " +
+                "VALUES ('detail-seller', 'ROLE_USER', ?, 'detail@sdz.com', 0, 0, 0)", Timestamp.from(Instant.now()));
+        jdbcTemplate.update("INSERT INTO category (category_id, category_name) VALUES (9201, 'detail-shoes')");
+        jdbcTemplate.update("INSERT INTO product (product_id, category_id, user_id, product_name, product_count, " +
+                "product_amount, product_content, reg_date) VALUES (9201, 9201, 'detail-seller', 'runner', 1, 1000, " +
+                "'fast', ?)", Timestamp.from(Instant.now()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM product WHERE product_id = 9201");
+        jdbcTemplate.update("DELETE FROM category WHERE category_id = 9201");
+        jdbcTemplate.update("DELETE FROM user WHERE user_id = 'detail-seller'");
+    }
+
+    @Test
+    void matchingEtagAnswersNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/products/9201"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/products/9201").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void missingProductIsNotFoundEvenWithMatchingEtag() throws Exception {
+        // 없는 상품도 ETag 값 자체는 만들 수 있으므로 존재 확인이 먼저여야 한다
+        String etag = productDetailCache.etag(9299L, productDetailCache.currentStamp(9299L));
+
+        mockMvc.perform(get("/api/products/9299").header("If-None-Match", etag))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,121 @@
+package com.elice.sdz.product.service;
+
+import com.elice.sdz.category.entity.Category;
+import com.elice.sdz.category.repository.CategoryRepository;
+import com.elice.sdz.product.dto.CatalogFormat;
+import com.elice.sdz.product.dto.ProductBulkResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "sdz.catalog.bulk.chunk-size=2")
+class ProductBulkServiceTest {
+
+    private static final String HEADER = "categoryName,productName,productCount,productAmount,productContent\n";
+
+    @Autowired
+    private ProductBulkService productBulkService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_auth, reg_date, email, login_lock, login_attempts, social) " +
+                "VALUES ('bulk-seller', 'ROLE_USER', ?, 'bulk@sdz.com', 0, 0, 0)", Timestamp.from(Instant.now()));
+        jdbcTemplate.update("INSERT INTO category (category_id, category_name) VALUES (9101, 'bulk-shoes')");
+        jdbcTemplate.update("INSERT INTO category (category_id, category_name) VALUES (9102, 'bulk-bags')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM product WHERE user_id = 'bulk-seller'");
+        jdbcTemplate.update("DELETE FROM category WHERE category_id IN (9101, 9102)");
+        jdbcTemplate.update("DELETE FROM user WHERE user_id = 'bulk-seller'");
+    }
+
+    @Test
+    void importsInChunksAndAccountsForEveryRow() throws IOException {
+        ProductBulkResult result = importCsv(HEADER +
+                "bulk-shoes,runner,10,1000,fast\n" +
+                "bulk-shoes,walker,-1,1000,slow\n" +
+                "bulk-bags,tote,3,25000,big\n" +
+                "unknown,ghost,1,1,none\n" +
+                "bulk-bags,clutch,1,12000000,small\n");
+
+        assertEquals(5, result.getTotalRows());
+        assertEquals(3, result.getInsertedRows());
+        assertEquals(2, result.getFailedRows());
+        assertEquals(List.of(3L, 5L), result.getErrors().stream().map(ProductBulkResult.RowError::getLine).toList());
+        assertEquals(3, productCount());
+    }
+
+    @Test
+    void failedChunkIsCountedWithError() throws IOException {
+        importCsv(HEADER + "bulk-bags,tote,3,25000,big\n");
+        // 캐시에 남은 카테고리를 JDBC 로 지워 다음 청크가 외래 키 위반으로 롤백되게 함
+        jdbcTemplate.update("DELETE FROM product WHERE user_id = 'bulk-seller'");
+        jdbcTemplate.update("DELETE FROM category WHERE category_id = 9102");
+
+        ProductBulkResult result = importCsv(HEADER +
+                "bulk-shoes,runner,10,1000,fast\n" +
+                "bulk-shoes,walker,1,1000,slow\n" +
+                "bulk-bags,tote,3,25000,big\n");
+
+        assertEquals(3, result.getTotalRows());
+        assertEquals(result.getTotalRows(), result.getInsertedRows() + result.getFailedRows());
+        assertEquals(2, result.getInsertedRows());
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).getMessage().startsWith("Chunk of 1 rows rolled back"));
+    }
+
+    @Test
+    void renamedCategoryIsNotResolvedFromCache() throws IOException {
+        assertEquals(1, importCsv(HEADER + "bulk-shoes,runner,10,1000,fast\n").getInsertedRows());
+
+        Category category = categoryRepository.findById(9101L).orElseThrow();
+        category.setCategoryName("bulk-sneakers");
+        categoryRepository.save(category);
+
+        ProductBulkResult result = importCsv(HEADER +
+                "bulk-shoes,runner,10,1000,fast\n" +
+                "bulk-sneakers,walker,1,1000,slow\n");
+        assertEquals(1, result.getInsertedRows());
+        assertEquals("Unknown category: bulk-shoes", result.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void exportWritesAmountsWithoutExponent() throws IOException {
+        importCsv(HEADER + "bulk-bags,clutch,1,12000000,small\n");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        productBulkService.exportCatalog(out, CatalogFormat.CSV);
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.contains(",bulk-bags,clutch,1,12000000,small"), csv);
+    }
+
+    private ProductBulkResult importCsv(String csv) throws IOException {
+        return productBulkService.importCatalog(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                CatalogFormat.CSV, "bulk-seller");
+    }
+
+    private int productCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product WHERE user_id = 'bulk-seller'", Integer.class);
+    }
+}
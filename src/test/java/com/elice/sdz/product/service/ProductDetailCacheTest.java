@@ -0,0 +1,83 @@
+package com.elice.sdz.product.service;
+
+import com.elice.sdz.product.config.ProductDetailProperties;
+import com.elice.sdz.product.event.ProductDetailChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductDetailCacheTest {
+
+    @Test
+    void staleEntryIsIgnoredAfterInvalidate() {
+        ProductDetailCache cache = new ProductDetailCache(new ProductDetailProperties());
+
+        // 조회 시작 시점의 버전으로 저장한 뒤, 그 사이 변경이 커밋된 상황
+        ProductDetailCache.Stamp stamp = cache.currentStamp(1L);
+        cache.invalidate(1L);
+        cache.put(1L, stamp, new byte[]{1});
+
+        assertNull(cache.get(1L, cache.currentStamp(1L)));
+
+        ProductDetailCache.Stamp fresh = cache.currentStamp(1L);
+        cache.put(1L, fresh, new byte[]{2});
+        assertArrayEquals(new byte[]{2}, cache.get(1L, cache.currentStamp(1L)));
+    }
+
+    @Test
+    void invalidateAllBumpsEpoch() {
+        ProductDetailCache cache = new ProductDetailCache(new ProductDetailProperties());
+        cache.put(1L, cache.currentStamp(1L), new byte[]{1});
+        cache.put(2L, cache.currentStamp(2L), new byte[]{2});
+
+        cache.invalidateAll();
+
+        assertNull(cache.get(1L, cache.currentStamp(1L)));
+        assertNull(cache.get(2L, cache.currentStamp(2L)));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        ProductDetailProperties properties = new ProductDetailProperties();
+        properties.setCacheMaxEntries(2);
+        ProductDetailCache cache = new ProductDetailCache(properties);
+
+        cache.put(1L, cache.currentStamp(1L), new byte[]{1});
+        cache.put(2L, cache.currentStamp(2L), new byte[]{2});
+        cache.get(1L, cache.currentStamp(1L));
+        cache.put(3L, cache.currentStamp(3L), new byte[]{3});
+
+        assertNotNull(cache.get(1L, cache.currentStamp(1L)));
+        assertNull(cache.get(2L, cache.currentStamp(2L)));
+    }
+
+    @Test
+    void sharedVersionSlotOnlyCausesMisses() {
+        ProductDetailProperties properties = new ProductDetailProperties();
+        properties.setVersionSlots(1);
+        ProductDetailCache cache = new ProductDetailCache(properties);
+
+        cache.put(1L, cache.currentStamp(1L), new byte[]{1});
+        // 같은 슬롯의 다른 상품 변경은 1번 상품도 다시 읽게 만든다
+        cache.onProductDetailChanged(new ProductDetailChangedEvent(2L));
+        assertNull(cache.get(1L, cache.currentStamp(1L)));
+
+        cache.put(1L, cache.currentStamp(1L), new byte[]{2});
+        assertArrayEquals(new byte[]{2}, cache.get(1L, cache.currentStamp(1L)));
+
+        cache.onProductDetailChanged(ProductDetailChangedEvent.all());
+        assertNull(cache.get(1L, cache.currentStamp(1L)));
+    }
+
+    @Test
+    void etagIsScopedToProduct() {
+        ProductDetailCache cache = new ProductDetailCache(new ProductDetailProperties());
+        String first = cache.etag(1L, cache.currentStamp(1L));
+
+        cache.invalidate(2L);
+        assertEquals(first, cache.etag(1L, cache.currentStamp(1L)));
+
+        cache.invalidate(1L);
+        assertNotEquals(first, cache.etag(1L, cache.currentStamp(1L)));
+    }
+}
@@ -0,0 +1,172 @@
+package com.elice.sdz.user.service;
+
+import com.elice.sdz.global.exception.BusinessException;
+import com.elice.sdz.global.exception.ErrorCode;
+import com.elice.sdz.user.config.CredentialProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "sdz.credential.bcrypt-strength=4")
+class CredentialServiceTest {
+
+    @Autowired
+    private CredentialService credentialService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_password, user_auth, reg_date, email, login_lock, " +
+                "login_attempts, social) VALUES ('cred-user', 'legacy-pw', 'ROLE_USER', ?, 'cred@sdz.com', 0, 0, 0)",
+                Timestamp.from(Instant.now()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM user WHERE user_id = 'cred-user'");
+    }
+
+    @Test
+    void legacyPlaintextIsReplacedWithHashOnLogin() {
+        assertFalse(credentialService.verify("cred-user", "wrong-pw"));
+        assertEquals("legacy-pw", storedPassword());
+
+        assertTrue(credentialService.verify("cred-user", "legacy-pw"));
+        String upgraded = storedPassword();
+        assertTrue(upgraded.startsWith("{bcrypt}$2a$04$"));
+
+        // 해시로 바뀐 뒤에도 같은 비밀번호로 로그인되고, 더 이상 교체하지 않는다
+        assertTrue(credentialService.verify("cred-user", "legacy-pw"));
+        assertEquals(upgraded, storedPassword());
+        assertFalse(credentialService.verify("cred-user", "wrong-pw"));
+    }
+
+    @Test
+    void hashIsUpgradedWhenCostIncreases() {
+        credentialService.changePassword("cred-user", "new-pw");
+        String weak = storedPassword();
+        assertTrue(weak.startsWith("{bcrypt}$2a$04$"));
+
+        CredentialProperties stronger = new CredentialProperties();
+        stronger.setBcryptStrength(5);
+        CredentialService upgradedService = new CredentialService(jdbcTemplate, stronger);
+        try {
+            assertTrue(upgradedService.needsRehash(weak));
+            assertTrue(upgradedService.verify("cred-user", "new-pw"));
+            assertTrue(storedPassword().startsWith("{bcrypt}$2a$05$"));
+            // 낮은 비용 설정은 더 높은 비용의 해시를 그대로 검증한다
+            assertTrue(credentialService.verify("cred-user", "new-pw"));
+            assertTrue(storedPassword().startsWith("{bcrypt}$2a$05$"));
+        } finally {
+            upgradedService.shutdown();
+        }
+    }
+
+    @Test
+    void unknownUserIsRejected() {
+        assertFalse(credentialService.verify("no-such-user", "legacy-pw"));
+    }
+
+    @Test
+    void saturatedHashPoolAnswersOverloaded() throws Exception {
+        CredentialProperties properties = new CredentialProperties();
+        properties.setHashThreads(1);
+        properties.setQueueCapacity(1);
+        properties.setMaxWait(Duration.ofSeconds(1));
+        BlockingEncoder encoder = new BlockingEncoder();
+        CredentialService service = new CredentialService(jdbcTemplate, properties, encoder);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // 유일한 해시 스레드를 점유 (호출자는 maxWait 후 429 를 받지만 스레드는 계속 점유됨)
+            Future<?> running = callers.submit(() -> service.hash("block"));
+            assertTrue(encoder.started.await(5, TimeUnit.SECONDS));
+
+            // 대기열에 들어간 작업은 maxWait 안에 끝나지 않아 429, 취소된 작업은 대기열에서 빠진다
+            BusinessException timedOut = assertThrows(BusinessException.class, () -> service.hash("queued"));
+            assertEquals(ErrorCode.SERVER_OVERLOADED, timedOut.getErrorCode());
+            assertEquals(0, service.queuedHashes());
+
+            // 비워진 자리에 다음 작업이 들어가고, 대기열이 차면 새 작업은 바로 거절
+            Future<String> next = callers.submit(() -> service.hash("next"));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (service.queuedHashes() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            BusinessException rejected = assertThrows(BusinessException.class, () -> service.hash("rejected"));
+            assertEquals(ErrorCode.SERVER_OVERLOADED, rejected.getErrorCode());
+
+            encoder.release.countDown();
+            assertEquals("encoded:next", next.get(5, TimeUnit.SECONDS));
+            ExecutionException blocked = assertThrows(ExecutionException.class, () -> running.get(5, TimeUnit.SECONDS));
+            assertEquals(ErrorCode.SERVER_OVERLOADED, ((BusinessException) blocked.getCause()).getErrorCode());
+            assertTrue(encoder.finished.await(5, TimeUnit.SECONDS));
+            assertFalse(encoder.encoded.contains("queued"));
+            assertFalse(encoder.encoded.contains("rejected"));
+        } finally {
+            encoder.release.countDown();
+            callers.shutdownNow();
+            service.shutdown();
+        }
+    }
+
+    private String storedPassword() {
+        return jdbcTemplate.queryForObject("SELECT user_password FROM user WHERE user_id = 'cred-user'", String.class);
+    }
+
+    // "block" 해시는 release 될 때까지 해시 스레드를 붙잡는 인코더
+    private static final class BlockingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private final Set<String> encoded = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            String raw = rawPassword.toString();
+            if (raw.equals("block")) {
+                started.countDown();
+                // bcrypt 처럼 취소 인터럽트에 반응하지 않고 끝까지 스레드를 점유
+                boolean interrupted = false;
+                while (release.getCount() > 0) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+                finished.countDown();
+            }
+            encoded.add(raw);
+            return "encoded:" + raw;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("encoded:" + rawPassword);
+        }
+    }
+}
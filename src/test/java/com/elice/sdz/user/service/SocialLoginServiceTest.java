@@ -0,0 +1,153 @@
+package com.elice.sdz.user.service;
+
+import com.elice.sdz.user.config.SocialLoginProperties;
+import com.elice.sdz.user.dto.SocialLoginResult;
+import com.elice.sdz.user.dto.SocialLoginResult.Resolution;
+import com.elice.sdz.user.dto.SocialProfile;
+import com.elice.sdz.user.repository.SocialUsersRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SocialLoginServiceTest {
+
+    @Autowired
+    private SocialLoginService socialLoginService;
+
+    @Autowired
+    private SocialUsersRepository socialUsersRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SocialLoginProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM social_users WHERE social_provider_id LIKE 'sl-%'");
+        jdbcTemplate.update("DELETE FROM user WHERE (user_id LIKE 'kakao\\_%' AND social = 1) " +
+                "OR user_id IN ('local-member', 'kakao_sl-5')");
+    }
+
+    @Test
+    void firstLoginCreatesAccountAndLaterLoginsHitCache() {
+        SocialLoginResult first = socialLoginService.resolve(profile("sl-1", "sl1@sdz.com", false));
+        assertEquals(Resolution.CREATED, first.resolution());
+        String userId = first.userId();
+        assertTrue(userId.startsWith("kakao_"));
+        assertEquals(1, count("SELECT COUNT(*) FROM user WHERE user_id = '" + userId + "' AND social = 1"));
+
+        // 연결 행을 지워도 캐시에서 바로 반환된다
+        jdbcTemplate.update("DELETE FROM social_users WHERE social_provider_id = 'sl-1'");
+        SocialLoginResult cached = socialLoginService.resolve(profile("sl-1", "sl1@sdz.com", false));
+        assertEquals(new SocialLoginResult(userId, Resolution.EXISTING), cached);
+
+        socialLoginService.evict("KAKAO", "sl-1");
+        jdbcTemplate.update("INSERT INTO social_users (user_id, social_provider, social_provider_id) " +
+                "VALUES (?, 'kakao', 'sl-1')", userId);
+        assertEquals(new SocialLoginResult(userId, Resolution.EXISTING),
+                socialLoginService.resolve(profile("sl-1", "sl1@sdz.com", false)));
+    }
+
+    @Test
+    void localAccountWithProviderStyleIdDoesNotBlockFirstLogin() {
+        // 일반 회원이 "제공자_제공자ID" 형태의 ID 를 이미 쓰고 있어도 소셜 회원은 다른 ID 로 만들어진다
+        jdbcTemplate.update("INSERT INTO user (user_id, user_auth, reg_date, email, login_lock, login_attempts, social) " +
+                "VALUES ('kakao_sl-5', 'ROLE_USER', ?, 'local5@sdz.com', 0, 0, 0)", Timestamp.from(Instant.now()));
+
+        SocialLoginResult result = socialLoginService.resolve(profile("sl-5", null, false));
+        assertEquals(Resolution.CREATED, result.resolution());
+        assertNotEquals("kakao_sl-5", result.userId());
+        assertEquals(result.userId(), socialUsersRepository.findUserId("kakao", "sl-5").orElseThrow());
+    }
+
+    @Test
+    void verifiedEmailDoesNotTakeOverLocalAccountByDefault() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_auth, reg_date, email, login_lock, login_attempts, social) " +
+                "VALUES ('local-member', 'ROLE_USER', ?, 'member@sdz.com', 0, 0, 0)", Timestamp.from(Instant.now()));
+
+        // 일반 회원의 이메일은 확인된 적이 없으므로 제공자가 확인한 이메일이어도 연결하지 않는다
+        SocialLoginResult result = socialLoginService.resolve(profile("sl-2", "member@sdz.com", true));
+        assertEquals(Resolution.CREATED, result.resolution());
+        assertNotEquals("local-member", result.userId());
+    }
+
+    @Test
+    void verifiedEmailLinksToExistingMemberWhenEnabled() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_auth, reg_date, email, login_lock, login_attempts, social) " +
+                "VALUES ('local-member', 'ROLE_USER', ?, 'member@sdz.com', 0, 0, 0)", Timestamp.from(Instant.now()));
+        SocialLoginProperties linking = new SocialLoginProperties();
+        linking.setLinkVerifiedEmail(true);
+        SocialLoginService service = new SocialLoginService(socialUsersRepository, jdbcTemplate,
+                transactionManager, linking);
+
+        // 확인되지 않은 이메일로는 연결하지 않는다
+        assertEquals(Resolution.CREATED, service.resolve(profile("sl-2", "member@sdz.com", false)).resolution());
+
+        SocialLoginResult linked = service.resolve(profile("sl-3", "member@sdz.com", true));
+        assertEquals(new SocialLoginResult("local-member", Resolution.LINKED), linked);
+        assertEquals("local-member", socialUsersRepository.findUserId("kakao", "sl-3").orElseThrow());
+    }
+
+    @Test
+    void concurrentFirstLoginsCreateOneAccount() throws Exception {
+        // 같은 DB 를 쓰는 두 번째 인스턴스를 흉내내어 인스턴스 간 경합도 확인
+        SocialLoginService otherInstance = new SocialLoginService(socialUsersRepository, jdbcTemplate,
+                transactionManager, properties);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<SocialLoginResult>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                SocialLoginService service = i % 2 == 0 ? socialLoginService : otherInstance;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return service.resolve(profile("sl-4", null, false));
+                }));
+            }
+            start.countDown();
+            Set<String> userIds = ConcurrentHashMap.newKeySet();
+            for (Future<SocialLoginResult> future : futures) {
+                userIds.add(future.get(10, TimeUnit.SECONDS).userId());
+            }
+            assertEquals(1, userIds.size());
+            assertEquals(userIds.iterator().next(), socialUsersRepository.findUserId("kakao", "sl-4").orElseThrow());
+        } finally {
+            executor.shutdownNow();
+        }
+        // 경합에서 진 쪽의 회원 생성은 롤백된다
+        assertEquals(1, count("SELECT COUNT(*) FROM user WHERE user_id LIKE 'kakao\\_%' AND social = 1"));
+        assertEquals(1, count("SELECT COUNT(*) FROM social_users WHERE social_provider_id = 'sl-4'"));
+    }
+
+    private SocialProfile profile(String providerId, String email, boolean emailVerified) {
+        return new SocialProfile("KAKAO", providerId, email, emailVerified, "name", "nick", null);
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}